@@ -12,8 +12,8 @@ public final class ClientCleaner {
 
     private ClientCleaner() {}
 
-    public static void register(Object instance, Client client) {
-        CLEANER.register(instance, closeClient(client));
+    public static Cleaner.Cleanable register(Object instance, Client client) {
+        return CLEANER.register(instance, closeClient(client));
     }
 
     private static Runnable closeClient(Client client) {
@@ -0,0 +1,25 @@
+package io.github.solaris.jaxrs.client.test.internal;
+
+import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertEqual;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
+
+/**
+ * {@link RequestMatcher} for the request method. Allows request expectations to be indexed by the expected method.
+ *
+ * @param httpMethod The expected HTTP method
+ */
+public record MethodMatcher(String httpMethod) implements RequestMatcher {
+
+    @Override
+    public void match(ClientRequestContext request) {
+        assertEqual("Unexpected Method.", httpMethod, request.getMethod());
+    }
+
+    @Override
+    public boolean test(ClientRequestContext request) {
+        return httpMethod.equals(request.getMethod());
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.solaris.jaxrs.client.test.internal;
+
+import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertEqual;
+
+import java.net.URI;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
+
+/**
+ * {@link RequestMatcher} for the request URI. Allows request expectations to be indexed by the expected URI.
+ *
+ * @param uri The expected URI
+ */
+public record UriMatcher(URI uri) implements RequestMatcher {
+
+    @Override
+    public void match(ClientRequestContext request) {
+        assertEqual("Unexpected Request.", uri, request.getUri());
+    }
+
+    @Override
+    public boolean test(ClientRequestContext request) {
+        return uri.equals(request.getUri());
+    }
+}
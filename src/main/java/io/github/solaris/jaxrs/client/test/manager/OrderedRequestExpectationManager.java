@@ -1,11 +1,12 @@
 package io.github.solaris.jaxrs.client.test.manager;
 
 import java.io.IOException;
-import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 
-import org.jspecify.annotations.Nullable;
+import io.github.solaris.jaxrs.client.test.server.RequestRetention;
 
 /**
  * <p>{@link RequestExpectationManager} that expects the first invocation of each request to be performed in order of declaration.</p>
@@ -17,32 +18,67 @@ import org.jspecify.annotations.Nullable;
  */
 public class OrderedRequestExpectationManager extends RequestExpectationManager {
     private final RequestExpectationGroup expectationGroup = new RequestExpectationGroup();
+    private final AtomicInteger cursor = new AtomicInteger();
 
-    private @Nullable Iterator<RequestExpectation> expectationIterator;
+    private List<RequestExpectation> expectations = List.of();
+
+    public OrderedRequestExpectationManager() {
+        this(RequestRetention.all());
+    }
+
+    /**
+     * @param retention Which executed requests to record
+     */
+    public OrderedRequestExpectationManager(RequestRetention retention) {
+        super(retention);
+    }
 
     @Override
     void expectationsDeclared() {
-        expectationIterator = getExpectations().iterator();
+        expectations = List.copyOf(getExpectations());
+        cursor.set(0);
     }
 
     @Override
     RequestExpectation matchRequest(ClientRequestContext requestContext) throws IOException {
-        RequestExpectation expectation = expectationGroup.findExpectation(requestContext);
-        if (expectation == null) {
-            if (expectationIterator == null || !expectationIterator.hasNext()) {
+        while (true) {
+            RequestExpectation expectation = expectationGroup.findExpectation(requestContext);
+            if (expectation != null) {
+                if (expectationGroup.claim(expectation)) {
+                    return expectation;
+                }
+                continue;
+            }
+
+            int index = cursor.get();
+            if (index >= expectations.size()) {
                 throw createUnexpectedRequestError(requestContext);
             }
-            expectation = expectationIterator.next();
-            expectation.match(requestContext);
+
+            RequestExpectation next = expectations.get(index);
+            boolean matches = next.test(requestContext);
+            if (!matches && cursor.compareAndSet(index, index + 1)) {
+                // A mismatching request uses up the next expectation, then fails with the AssertionError of its RequestMatcher.
+                // A RequestMatcher whose test disagrees with its match is trusted to match if match doesn't throw.
+                next.match(requestContext);
+                matches = true;
+            }
+
+            if (matches) {
+                // Concurrent requests matching the same expectation may lose this race, but can still claim it below
+                cursor.compareAndSet(index, index + 1);
+                if (expectationGroup.claim(next)) {
+                    return next;
+                }
+            }
         }
-        expectationGroup.update(expectation);
-        return expectation;
     }
 
     @Override
     public void reset() {
         super.reset();
-        expectationIterator = null;
+        expectations = List.of();
+        cursor.set(0);
         expectationGroup.reset();
     }
 }
@@ -3,14 +3,18 @@ package io.github.solaris.jaxrs.client.test.manager;
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.core.Response;
 
 import org.jspecify.annotations.Nullable;
 
+import io.github.solaris.jaxrs.client.test.internal.MethodMatcher;
+import io.github.solaris.jaxrs.client.test.internal.UriMatcher;
 import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
 import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
 import io.github.solaris.jaxrs.client.test.response.ResponseActions;
@@ -18,17 +22,19 @@ import io.github.solaris.jaxrs.client.test.response.ResponseCreator;
 
 class RequestExpectation implements RequestMatcher, ResponseActions, ResponseCreator {
 
-    private int matchedCount;
+    private final AtomicInteger matchedCount = new AtomicInteger();
 
     private @Nullable ResponseCreator responseCreator;
 
     private final List<RequestMatcher> matchers = new ArrayList<>();
     private final ExpectedCount expectedCount;
+    private final Runnable onSatisfied;
 
-    RequestExpectation(ExpectedCount expectedCount, RequestMatcher requestMatcher) {
+    RequestExpectation(ExpectedCount expectedCount, RequestMatcher requestMatcher, Runnable onSatisfied) {
         validateNotNull(expectedCount, "'expectedCount' must not be null.");
         validateNotNull(requestMatcher, "'requestMatcher' must not be null.");
         this.expectedCount = expectedCount;
+        this.onSatisfied = onSatisfied;
         matchers.add(requestMatcher);
     }
 
@@ -39,6 +45,16 @@ class RequestExpectation implements RequestMatcher, ResponseActions, ResponseCre
         }
     }
 
+    @Override
+    public boolean test(ClientRequestContext request) throws IOException {
+        for (RequestMatcher matcher : matchers) {
+            if (!matcher.test(request)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Override
     public ResponseActions andExpect(RequestMatcher requestMatcher) {
         validateNotNull(requestMatcher, "'requestMatcher' must not be null.");
@@ -52,18 +68,55 @@ class RequestExpectation implements RequestMatcher, ResponseActions, ResponseCre
         this.responseCreator = responseCreator;
     }
 
+    @Nullable String getExpectedMethod() {
+        for (RequestMatcher matcher : matchers) {
+            if (matcher instanceof MethodMatcher methodMatcher) {
+                return methodMatcher.httpMethod();
+            }
+        }
+        return null;
+    }
+
+    @Nullable URI getExpectedUri() {
+        for (RequestMatcher matcher : matchers) {
+            if (matcher instanceof UriMatcher uriMatcher) {
+                return uriMatcher.uri();
+            }
+        }
+        return null;
+    }
+
     boolean hasRemainingCount() {
-        return matchedCount < expectedCount.getMax();
+        return matchedCount.get() < expectedCount.getMax();
     }
 
     boolean isSatisfied() {
-        return matchedCount >= expectedCount.getMin();
+        return matchedCount.get() >= expectedCount.getMin();
+    }
+
+    // Exhausted expectations have been matched as often as expected and can be skipped when looking for a match.
+    // Expectations that are never expected to match are not exhausted, so that matching them fails the request.
+    boolean isExhausted() {
+        return expectedCount.getMax() > 0 && !hasRemainingCount();
     }
 
-    void incrementAndValidate() {
-        matchedCount++;
-        if (matchedCount > expectedCount.getMax()) {
-            throw new AssertionError("Received more calls than expected.");
+    // Returns false if the expectation has been exhausted by concurrent requests in the meantime
+    boolean tryIncrement() {
+        int max = expectedCount.getMax();
+        while (true) {
+            int count = matchedCount.get();
+            if (count >= max) {
+                if (max == 0) {
+                    throw new AssertionError("Received more calls than expected.");
+                }
+                return false;
+            }
+            if (matchedCount.compareAndSet(count, count + 1)) {
+                if (count + 1 == expectedCount.getMin()) {
+                    onSatisfied.run();
+                }
+                return true;
+            }
         }
     }
 
@@ -1,43 +1,125 @@
 package io.github.solaris.jaxrs.client.test.manager;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.Collection;
-import java.util.HashSet;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 
 import org.jspecify.annotations.Nullable;
 
+// Expectations are indexed by the method and URI of their MethodMatcher and UriMatcher (if present),
+// so that only expectations that could possibly match a request have to be evaluated against it.
+// The index is safe for concurrent use, matching is done without holding any lock.
 class RequestExpectationGroup {
-    private final Set<RequestExpectation> expectations = new HashSet<>();
+    private final Map<String, UriIndex> methodIndex = new ConcurrentHashMap<>();
+    private final UriIndex anyMethod = new UriIndex();
 
     @Nullable RequestExpectation findExpectation(ClientRequestContext requestContext) throws IOException {
-        for (RequestExpectation expectation : expectations) {
-            try {
-                expectation.match(requestContext);
+        String method = requestContext.getMethod();
+        URI uri = requestContext.getUri();
+
+        UriIndex uriIndex = method == null ? null : methodIndex.get(method);
+        if (uriIndex != null) {
+            RequestExpectation expectation = uriIndex.findExpectation(requestContext, uri);
+            if (expectation != null) {
                 return expectation;
-            } catch (AssertionError ignored) {
-                // Return the matching expectation or null, ignore Exceptions
             }
         }
-        return null;
+        return anyMethod.findExpectation(requestContext, uri);
     }
 
     void addExpectations(Collection<RequestExpectation> expectations) {
-        this.expectations.addAll(expectations);
+        for (RequestExpectation expectation : expectations) {
+            add(expectation);
+        }
     }
 
-    void update(RequestExpectation expectation) {
-        expectation.incrementAndValidate();
+    // Returns false if the expectation has been exhausted by concurrent requests in the meantime
+    boolean claim(RequestExpectation expectation) {
+        if (!expectation.tryIncrement()) {
+            return false;
+        }
+
         if (expectation.hasRemainingCount()) {
-            expectations.add(expectation);
+            add(expectation);
         } else {
-            expectations.remove(expectation);
+            remove(expectation);
         }
+        return true;
     }
 
     void reset() {
-        expectations.clear();
+        methodIndex.clear();
+        anyMethod.clear();
+    }
+
+    private void add(RequestExpectation expectation) {
+        String method = expectation.getExpectedMethod();
+        UriIndex uriIndex = method == null ? anyMethod : methodIndex.computeIfAbsent(method, k -> new UriIndex());
+        uriIndex.add(expectation);
+    }
+
+    private void remove(RequestExpectation expectation) {
+        String method = expectation.getExpectedMethod();
+        UriIndex uriIndex = method == null ? anyMethod : methodIndex.get(method);
+        if (uriIndex != null) {
+            uriIndex.remove(expectation);
+        }
+    }
+
+    private static @Nullable RequestExpectation findMatching(Set<RequestExpectation> candidates, ClientRequestContext requestContext)
+            throws IOException {
+        for (RequestExpectation expectation : candidates) {
+            if (!expectation.isExhausted() && expectation.test(requestContext)) {
+                return expectation;
+            }
+        }
+        return null;
+    }
+
+    private static final class UriIndex {
+        private final Map<URI, Set<RequestExpectation>> uriIndex = new ConcurrentHashMap<>();
+        private final Set<RequestExpectation> anyUri = ConcurrentHashMap.newKeySet();
+
+        @Nullable RequestExpectation findExpectation(ClientRequestContext requestContext, @Nullable URI uri) throws IOException {
+            Set<RequestExpectation> candidates = uri == null ? null : uriIndex.get(uri);
+            if (candidates != null) {
+                RequestExpectation expectation = findMatching(candidates, requestContext);
+                if (expectation != null) {
+                    return expectation;
+                }
+            }
+            return findMatching(anyUri, requestContext);
+        }
+
+        void add(RequestExpectation expectation) {
+            URI uri = expectation.getExpectedUri();
+            if (uri == null) {
+                anyUri.add(expectation);
+            } else {
+                uriIndex.computeIfAbsent(uri, k -> ConcurrentHashMap.newKeySet()).add(expectation);
+            }
+        }
+
+        void remove(RequestExpectation expectation) {
+            URI uri = expectation.getExpectedUri();
+            if (uri == null) {
+                anyUri.remove(expectation);
+            } else {
+                Set<RequestExpectation> candidates = uriIndex.get(uri);
+                if (candidates != null) {
+                    candidates.remove(expectation);
+                }
+            }
+        }
+
+        void clear() {
+            uriIndex.clear();
+            anyUri.clear();
+        }
     }
 }
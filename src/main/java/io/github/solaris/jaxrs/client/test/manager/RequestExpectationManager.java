@@ -5,11 +5,14 @@ import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.val
 import java.io.IOException;
 import java.net.URI;
 import java.time.Duration;
-import java.time.Instant;
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.stream.Collectors;
 
 import jakarta.ws.rs.client.ClientRequestContext;
@@ -18,18 +21,29 @@ import jakarta.ws.rs.core.Response;
 import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
 import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
 import io.github.solaris.jaxrs.client.test.response.ResponseActions;
+import io.github.solaris.jaxrs.client.test.server.RequestRetention;
 
 /**
  * Base class for all {@code RequestExpectationManager} implementations.
  * <p>Responsible for holding expectations, executed and failed requests, as well as checking for unsatisfied request expectations.</p>
  * <p>The order in which the requests are expected to occur depends on the subclass.</p>
+ * <p>Requests may be validated concurrently, {@link RequestMatcher RequestMatchers} are invoked without holding a lock.</p>
  */
 public abstract class RequestExpectationManager {
     private final List<RequestExpectation> expectations = new ArrayList<>();
-    private final List<ClientRequestContext> requests = new ArrayList<>();
-    private final Map<ClientRequestContext, Throwable> failedRequests = new LinkedHashMap<>();
+    private final RequestJournal journal;
 
-    RequestExpectationManager() {}
+    private final AtomicInteger unsatisfiedCount = new AtomicInteger();
+    private final Lock progressLock = new ReentrantLock();
+    private final Condition progress = progressLock.newCondition();
+
+    private volatile boolean declared;
+    private volatile CompletableFuture<Void> satisfied = new CompletableFuture<>();
+
+    RequestExpectationManager(RequestRetention retention) {
+        validateNotNull(retention, "'retention' must not be null.");
+        journal = new RequestJournal(retention);
+    }
 
     abstract void expectationsDeclared();
 
@@ -44,13 +58,21 @@ public abstract class RequestExpectationManager {
      * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#expect(ExpectedCount, RequestMatcher) MockRestServer.expect(ExpectedCount, RequestMatcher)
      */
     public ResponseActions expectRequest(ExpectedCount count, RequestMatcher requestMatcher) {
-        if (!requests.isEmpty()) {
-            throw new IllegalStateException("Cannot declare further expectations after the first request.");
-        }
+        synchronized (expectations) {
+            if (declared) {
+                throw new IllegalStateException("Cannot declare further expectations after the first request.");
+            }
 
-        RequestExpectation expectation = new RequestExpectation(count, requestMatcher);
-        expectations.add(expectation);
-        return expectation;
+            RequestExpectation expectation = new RequestExpectation(count, requestMatcher, this::expectationSatisfied);
+            expectations.add(expectation);
+            if (!expectation.isSatisfied()) {
+                unsatisfiedCount.incrementAndGet();
+                if (satisfied.isDone()) {
+                    satisfied = new CompletableFuture<>();
+                }
+            }
+            return expectation;
+        }
     }
 
     /**
@@ -61,21 +83,24 @@ public abstract class RequestExpectationManager {
      * @throws IOException If thrown from a {@link RequestMatcher}
      */
     public Response validateRequest(ClientRequestContext requestContext) throws IOException {
-        RequestExpectation expectation;
-        synchronized (requests) {
-            if (requests.isEmpty()) {
-                expectationsDeclared();
+        if (!declared) {
+            synchronized (expectations) {
+                if (!declared) {
+                    expectationsDeclared();
+                    declared = true;
+                }
             }
+        }
 
-            try {
-                expectation = matchRequest(requestContext);
-            } catch (Throwable t) {
-                failedRequests.put(requestContext, t);
-                throw t;
-            } finally {
-                requests.add(requestContext);
-            }
+        RequestExpectation expectation;
+        try {
+            expectation = matchRequest(requestContext);
+        } catch (Throwable t) {
+            journal.record(requestContext, t);
+            signalProgress();
+            throw t;
         }
+        journal.record(requestContext, null);
 
         return expectation.createResponse(requestContext);
     }
@@ -99,24 +124,75 @@ public abstract class RequestExpectationManager {
      */
     public void verify(Duration timeout) {
         validateNotNull(timeout, "'timeout' must not be null.");
-        Instant end = Instant.now().plus(timeout);
-        do {
-            if (countUnsatisfiedExpectations() == 0) {
-                return;
+        long remainingNanos = timeout.toNanos();
+        progressLock.lock();
+        try {
+            while (!isCompleted() && remainingNanos > 0) {
+                remainingNanos = progress.awaitNanos(remainingNanos);
             }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            progressLock.unlock();
         }
-        while (Instant.now().isBefore(end));
 
         verify();
     }
 
+    /**
+     * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#whenSatisfied() MockRestServer.whenSatisfied()
+     */
+    public CompletionStage<Void> whenSatisfied() {
+        CompletableFuture<Void> future = satisfied;
+        completeIfFinished(future);
+        return future.minimalCompletionStage();
+    }
+
     /**
      * @see io.github.solaris.jaxrs.client.test.server.MockRestServer#reset() MockRestServer.reset()
      */
     public void reset() {
-        requests.clear();
-        expectations.clear();
-        failedRequests.clear();
+        synchronized (expectations) {
+            journal.clear();
+            expectations.clear();
+            unsatisfiedCount.set(0);
+            declared = false;
+            satisfied.cancel(false);
+            satisfied = new CompletableFuture<>();
+        }
+        signalWaiting();
+    }
+
+    private void expectationSatisfied() {
+        unsatisfiedCount.decrementAndGet();
+        signalProgress();
+    }
+
+    // Invoked once an expectation becomes satisfied or a request fails
+    private void signalProgress() {
+        signalWaiting();
+        completeIfFinished(satisfied);
+    }
+
+    private void signalWaiting() {
+        progressLock.lock();
+        try {
+            progress.signalAll();
+        } finally {
+            progressLock.unlock();
+        }
+    }
+
+    private void completeIfFinished(CompletableFuture<Void> future) {
+        if (journal.hasFailedRequests() && !expectations.isEmpty()) {
+            future.completeExceptionally(createFailedRequestsError());
+        } else if (unsatisfiedCount.get() == 0) {
+            future.complete(null);
+        }
+    }
+
+    private boolean isCompleted() {
+        return journal.hasFailedRequests() || unsatisfiedCount.get() == 0;
     }
 
     private long countUnsatisfiedExpectations() {
@@ -124,12 +200,8 @@ public abstract class RequestExpectationManager {
             return 0;
         }
 
-        if (!failedRequests.isEmpty()) {
-            throw new AssertionError("Some requests did not execute successfully.\n" +
-                    failedRequests.entrySet().stream()
-                            .map(entry -> "Failed request:\n"
-                                    + contextToString(entry.getKey()) + "\n" + entry.getValue())
-                            .collect(Collectors.joining("\n", "\n", "")));
+        if (journal.hasFailedRequests()) {
+            throw createFailedRequestsError();
         }
 
         return expectations.stream()
@@ -137,6 +209,17 @@ public abstract class RequestExpectationManager {
                 .count();
     }
 
+    private AssertionError createFailedRequestsError() {
+        List<RequestJournal.FailedRequest> failedRequests = journal.getFailedRequests();
+        long omittedCount = journal.getFailedCount() - failedRequests.size();
+        return new AssertionError("Some requests did not execute successfully.\n" +
+                failedRequests.stream()
+                        .map(failedRequest -> "Failed request:\n"
+                                + failedRequest.request() + "\n" + failedRequest.failure())
+                        .collect(Collectors.joining("\n", "\n", ""))
+                + (omittedCount > 0 ? "\n" + omittedCount + " further failed request(s) were not recorded." : ""));
+    }
+
     AssertionError createUnexpectedRequestError(ClientRequestContext requestContext) {
         String method = requestContext.getMethod();
         URI uri = requestContext.getUri();
@@ -144,12 +227,17 @@ public abstract class RequestExpectationManager {
     }
 
     private String getRequestDetails() {
+        long executedCount = journal.getExecutedCount();
+        List<RequestSnapshot> retained = journal.getRetainedRequests();
         StringBuilder builder = new StringBuilder();
-        builder.append(requests.size()).append(" request(s) executed");
-        if (!requests.isEmpty()) {
+        builder.append(executedCount).append(" request(s) executed");
+        if (!retained.isEmpty()) {
+            if (retained.size() < executedCount) {
+                builder.append(", ").append(retained.size()).append(" retained");
+            }
             builder.append(":\n");
-            for (ClientRequestContext request : requests) {
-                builder.append(contextToString(request)).append('\n');
+            for (RequestSnapshot request : retained) {
+                builder.append(request).append('\n');
             }
         } else {
             builder.append(".\n");
@@ -157,12 +245,4 @@ public abstract class RequestExpectationManager {
 
         return builder.toString();
     }
-
-    private static String contextToString(ClientRequestContext requestContext) {
-        StringBuilder builder = new StringBuilder(requestContext.getMethod()).append(' ').append(requestContext.getUri());
-        if (!requestContext.getStringHeaders().isEmpty()) {
-            builder.append(", headers: ").append(requestContext.getStringHeaders());
-        }
-        return builder.toString();
-    }
 }
@@ -0,0 +1,90 @@
+package io.github.solaris.jaxrs.client.test.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.server.RequestRetention;
+
+// Records snapshots of the executed requests according to the RequestRetention.
+// The first MAX_FAILED_REQUESTS failed requests are always recorded, the number of executed and failed requests is always counted.
+// Snapshots are only taken of requests that are recorded.
+final class RequestJournal {
+    static final int MAX_FAILED_REQUESTS = 100;
+
+    private final Queue<RequestSnapshot> requests = new ConcurrentLinkedQueue<>();
+    private final Queue<FailedRequest> failedRequests = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger retainedCount = new AtomicInteger();
+    private final AtomicLong executedCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final RequestRetention retention;
+
+    RequestJournal(RequestRetention retention) {
+        this.retention = retention;
+    }
+
+    void record(ClientRequestContext requestContext, @Nullable Throwable failure) {
+        executedCount.incrementAndGet();
+        Throwable recordedFailure = failure != null && failedCount.getAndIncrement() < MAX_FAILED_REQUESTS ? failure : null;
+        if (recordedFailure == null && retention.getMaxRequests() == 0) {
+            return;
+        }
+
+        RequestSnapshot snapshot = RequestSnapshot.of(requestContext, retention.getMaxEntityLength());
+        if (recordedFailure != null) {
+            failedRequests.add(new FailedRequest(snapshot, recordedFailure));
+        }
+
+        if (retention.getMaxRequests() > 0) {
+            requests.add(snapshot);
+            if (retainedCount.incrementAndGet() > retention.getMaxRequests() && requests.poll() != null) {
+                retainedCount.decrementAndGet();
+            }
+        }
+    }
+
+    long getExecutedCount() {
+        return executedCount.get();
+    }
+
+    List<RequestSnapshot> getRetainedRequests() {
+        if (retention.getMaxRequests() == 0) {
+            List<RequestSnapshot> failed = new ArrayList<>();
+            for (FailedRequest failedRequest : failedRequests) {
+                failed.add(failedRequest.request());
+            }
+            return failed;
+        }
+        return new ArrayList<>(requests);
+    }
+
+    long getFailedCount() {
+        return failedCount.get();
+    }
+
+    List<FailedRequest> getFailedRequests() {
+        return new ArrayList<>(failedRequests);
+    }
+
+    boolean hasFailedRequests() {
+        return failedCount.get() > 0;
+    }
+
+    void clear() {
+        requests.clear();
+        failedRequests.clear();
+        retainedCount.set(0);
+        executedCount.set(0);
+        failedCount.set(0);
+    }
+
+    record FailedRequest(RequestSnapshot request, Throwable failure) {}
+}
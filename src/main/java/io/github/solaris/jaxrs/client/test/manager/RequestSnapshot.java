@@ -0,0 +1,58 @@
+package io.github.solaris.jaxrs.client.test.manager;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import org.jspecify.annotations.Nullable;
+
+// Immutable copy of the parts of an executed request that are relevant for error messages,
+// so that the journal does not keep the live ClientRequestContext and its entity reachable.
+record RequestSnapshot(String method, URI uri, Map<String, List<String>> headers, @Nullable String entity) {
+
+    static RequestSnapshot of(ClientRequestContext requestContext, int maxEntityLength) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> header : requestContext.getStringHeaders().entrySet()) {
+            headers.put(header.getKey(), Collections.unmodifiableList(new ArrayList<>(header.getValue())));
+        }
+
+        String entity = null;
+        if (maxEntityLength > 0 && requestContext.hasEntity()) {
+            entity = truncate(requestContext.getEntity(), maxEntityLength);
+        }
+
+        return new RequestSnapshot(requestContext.getMethod(), requestContext.getUri(), Collections.unmodifiableMap(headers), entity);
+    }
+
+    private static String truncate(Object entity, int maxLength) {
+        if (entity instanceof byte[] bytes) {
+            String content = new String(bytes, 0, Math.min(bytes.length, maxLength), UTF_8);
+            return bytes.length > maxLength ? content + "..." : content;
+        }
+
+        CharSequence content = entity instanceof CharSequence charSequence ? charSequence : String.valueOf(entity);
+        if (content.length() <= maxLength) {
+            return content.toString();
+        }
+        return content.subSequence(0, maxLength) + "...";
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(method).append(' ').append(uri);
+        if (!headers.isEmpty()) {
+            builder.append(", headers: ").append(headers);
+        }
+        if (entity != null) {
+            builder.append(", entity: ").append(entity);
+        }
+        return builder.toString();
+    }
+}
@@ -1,54 +1,69 @@
 package io.github.solaris.jaxrs.client.test.manager;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.List;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 
+import io.github.solaris.jaxrs.client.test.server.RequestRetention;
+
 /**
  * {@link RequestExpectationManager} that expects each request to be satisfied in order of declaration.
  * <p>Corresponds to mockRestServerBuilder.withRequestOrder({@link io.github.solaris.jaxrs.client.test.server.RequestOrder#STRICT STRICT}).</p>
  */
 public class StrictlyOrderedRequestExpectationManager extends RequestExpectationManager {
-    private final List<RequestExpectation> expectations = new ArrayList<>();
+    private List<RequestExpectation> expectations = List.of();
+
+    public StrictlyOrderedRequestExpectationManager() {
+        this(RequestRetention.all());
+    }
+
+    /**
+     * @param retention Which executed requests to record
+     */
+    public StrictlyOrderedRequestExpectationManager(RequestRetention retention) {
+        super(retention);
+    }
 
     @Override
     void expectationsDeclared() {
-        expectations.addAll(getExpectations());
+        expectations = List.copyOf(getExpectations());
     }
 
     @Override
     RequestExpectation matchRequest(ClientRequestContext requestContext) throws IOException {
-        RequestExpectation matchingExpectation = null;
-        for (RequestExpectation expectation : expectations) {
-            if (expectation.isSatisfied()) {
-                try {
+        while (true) {
+            RequestExpectation matchingExpectation = null;
+            for (RequestExpectation expectation : expectations) {
+                if (expectation.isExhausted()) {
+                    continue;
+                }
+
+                if (expectation.isSatisfied()) {
+                    if (expectation.test(requestContext)) {
+                        matchingExpectation = expectation;
+                        break;
+                    }
+                } else {
                     expectation.match(requestContext);
                     matchingExpectation = expectation;
                     break;
-                } catch (AssertionError ignore) {}
-            } else {
-                expectation.match(requestContext);
-                matchingExpectation = expectation;
-                break;
+                }
             }
-        }
 
-        if (matchingExpectation == null) {
-            throw createUnexpectedRequestError(requestContext);
-        }
+            if (matchingExpectation == null) {
+                throw createUnexpectedRequestError(requestContext);
+            }
 
-        matchingExpectation.incrementAndValidate();
-        if (!matchingExpectation.hasRemainingCount()) {
-            expectations.remove(matchingExpectation);
+            if (matchingExpectation.tryIncrement()) {
+                return matchingExpectation;
+            }
         }
-        return matchingExpectation;
     }
 
     @Override
     public void reset() {
         super.reset();
-        expectations.clear();
+        expectations = List.of();
     }
 }
@@ -4,6 +4,8 @@ import java.io.IOException;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 
+import io.github.solaris.jaxrs.client.test.server.RequestRetention;
+
 /**
  * {@link RequestExpectationManager} that expects requests to be performed in any order.
  * <p>Corresponds to mockRestServerBuilder.withRequestOrder({@link io.github.solaris.jaxrs.client.test.server.RequestOrder#UNORDERED UNORDERED}).</p>
@@ -11,6 +13,17 @@ import jakarta.ws.rs.client.ClientRequestContext;
 public class UnorderedRequestExpectationManager extends RequestExpectationManager {
     private final RequestExpectationGroup expectationGroup = new RequestExpectationGroup();
 
+    public UnorderedRequestExpectationManager() {
+        this(RequestRetention.all());
+    }
+
+    /**
+     * @param retention Which executed requests to record
+     */
+    public UnorderedRequestExpectationManager(RequestRetention retention) {
+        super(retention);
+    }
+
     @Override
     void expectationsDeclared() {
         expectationGroup.addExpectations(getExpectations());
@@ -18,13 +31,16 @@ public class UnorderedRequestExpectationManager extends RequestExpectationManage
 
     @Override
     RequestExpectation matchRequest(ClientRequestContext requestContext) throws IOException {
-        RequestExpectation expectation = expectationGroup.findExpectation(requestContext);
-        if (expectation == null) {
-            throw createUnexpectedRequestError(requestContext);
-        }
+        while (true) {
+            RequestExpectation expectation = expectationGroup.findExpectation(requestContext);
+            if (expectation == null) {
+                throw createUnexpectedRequestError(requestContext);
+            }
 
-        expectationGroup.update(expectation);
-        return expectation;
+            if (expectationGroup.claim(expectation)) {
+                return expectation;
+            }
+        }
     }
 
     @Override
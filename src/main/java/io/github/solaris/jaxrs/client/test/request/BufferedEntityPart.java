@@ -3,10 +3,8 @@ package io.github.solaris.jaxrs.client.test.request;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static jakarta.ws.rs.core.MediaType.CHARSET_PARAMETER;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -23,13 +21,17 @@ import jakarta.ws.rs.core.MultivaluedMap;
 class BufferedEntityPart implements EntityPart {
     private final EntityPart actualPart;
     private final EntityConverter converter;
-    private final byte[] bufferedContent;
+    private final PartBuffer bufferedContent;
+    private final MultivaluedMap<String, String> headers;
+    private final int hashCode;
 
     BufferedEntityPart(EntityPart actualPart, EntityConverter converter) throws IOException {
         this.actualPart = actualPart;
         this.converter = converter;
 
-        this.bufferedContent = actualPart.getContent().readAllBytes();
+        this.bufferedContent = PartBuffer.read(actualPart.getContent());
+        this.headers = normalizeHeaders(actualPart.getHeaders());
+        this.hashCode = Objects.hash(bufferedContent.contentHashCode(), actualPart.getName(), actualPart.getFileName(), actualPart.getMediaType(), headers);
     }
 
     @Override
@@ -44,7 +46,7 @@ class BufferedEntityPart implements EntityPart {
 
     @Override
     public InputStream getContent() {
-        return new ByteArrayInputStream(bufferedContent);
+        return bufferedContent.newInputStream();
     }
 
     @Override
@@ -59,11 +61,16 @@ class BufferedEntityPart implements EntityPart {
 
     @Override
     public MultivaluedMap<String, String> getHeaders() {
-        return actualPart.getHeaders()
-                .entrySet()
-                .stream()
-                .map(BufferedEntityPart::removeDefaultTextCharset)
-                .collect(MultivaluedHashMap::new, (map, entry) -> map.put(entry.getKey(), entry.getValue()), MultivaluedMap::putAll);
+        return new MultivaluedHashMap<>(headers);
+    }
+
+    static MultivaluedMap<String, String> normalizeHeaders(MultivaluedMap<String, String> headers) {
+        MultivaluedMap<String, String> normalized = new MultivaluedHashMap<>();
+        for (Entry<String, List<String>> entry : headers.entrySet()) {
+            Entry<String, List<String>> normalizedEntry = removeDefaultTextCharset(entry);
+            normalized.put(normalizedEntry.getKey(), normalizedEntry.getValue());
+        }
+        return normalized;
     }
 
     // RESTEasy will add charset=us-ascii to the Content-Type header if none is specified it's of type text/*,
@@ -96,7 +103,7 @@ class BufferedEntityPart implements EntityPart {
         return actualPart.getMediaType();
     }
 
-    byte[] getBuffer() {
+    PartBuffer getBuffer() {
         return bufferedContent;
     }
 
@@ -105,20 +112,25 @@ class BufferedEntityPart implements EntityPart {
         if (this == o) {
             return true;
         }
+        if (o instanceof LazyEntityPart lazyPart) {
+            // A LazyEntityPart is compared by its buffered part, which buffers its content
+            return equals(LazyEntityPart.bufferedPart(lazyPart));
+        }
         if (o == null || getClass() != o.getClass()) {
             return false;
         }
         BufferedEntityPart that = (BufferedEntityPart) o;
-        return Arrays.equals(bufferedContent, that.bufferedContent)
+        return hashCode == that.hashCode
+                && bufferedContent.contentEquals(that.bufferedContent)
                 && Objects.equals(getName(), that.getName())
                 && Objects.equals(getFileName(), that.getFileName())
                 && Objects.equals(getMediaType(), that.getMediaType())
-                && Objects.equals(getHeaders(), that.getHeaders());
+                && Objects.equals(headers, that.headers);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(bufferedContent), getName(), getFileName(), getMediaType(), getHeaders());
+        return hashCode;
     }
 
     @Override
@@ -127,8 +139,9 @@ class BufferedEntityPart implements EntityPart {
                 + "name=" + getName()
                 + ", fileName=" + getFileName()
                 + ", mediaType=" + getMediaType()
-                + ", headers=" + getHeaders()
-                + ", content=" + bufferedContent.length + " bytes"
+                + ", headers=" + headers
+                + ", content=" + bufferedContent.size() + " bytes"
+                + ", sha256=" + bufferedContent.getDigest()
                 + '}';
     }
 }
@@ -3,6 +3,8 @@ package io.github.solaris.jaxrs.client.test.request;
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 import static io.github.solaris.jaxrs.client.test.request.MultiPartRequestContext.ENTITY_PARTS;
 
+import java.io.IOException;
+import java.lang.ref.Cleaner.Cleanable;
 import java.net.URI;
 import java.util.List;
 
@@ -16,6 +18,8 @@ import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.GenericType;
 import jakarta.ws.rs.core.Response;
 
+import org.jspecify.annotations.Nullable;
+
 import io.github.solaris.jaxrs.client.test.internal.ClientCleaner;
 
 /**
@@ -31,11 +35,13 @@ public final class ClientEntityConverter extends EntityConverter {
     private static final URI LOCALHOST = URI.create("http://localhost");
     private static final RoundTripFilter ROUND_TRIP_FILTER = new RoundTripFilter();
 
+    private volatile @Nullable RoundTripClient roundTripClient;
+
     public ClientEntityConverter() {}
 
     @Override
     @SuppressWarnings("unchecked")
-    public <T> T convertEntity(ClientRequestContext requestContext, Class<T> type) {
+    public <T> T convertEntity(ClientRequestContext requestContext, Class<T> type) throws IOException {
         validateNotNull(requestContext, "'requestContext' must not be null.");
         validateNotNull(type, "'type' must not be null.");
         assertEntityPresent(requestContext);
@@ -44,9 +50,16 @@ public final class ClientEntityConverter extends EntityConverter {
             return (T) requestContext.getEntity();
         }
 
-        try (Response response = convertEntity(requestContext)) {
-            return response.readEntity(type);
-        }
+        return convertCached(requestContext, type, () -> {
+            Object rawEntity = convertRawEntity(requestContext, type);
+            if (rawEntity != null) {
+                return type.cast(rawEntity);
+            }
+
+            try (Response response = convertEntity(requestContext)) {
+                return response.readEntity(type);
+            }
+        });
     }
 
     @Override
@@ -73,14 +86,47 @@ public final class ClientEntityConverter extends EntityConverter {
     }
 
     private Response convertEntity(ClientRequestContext requestContext) {
-        // Directly closing the 'inner' client here causes Jersey to close the 'outer' client as well
-        Client client = ClientBuilder.newClient().register(ROUND_TRIP_FILTER);
-        ClientCleaner.register(this, client);
-        return client.target(LOCALHOST)
+        return getRoundTripClient().target(LOCALHOST)
                 .request(requestContext.getMediaType())
                 .post(Entity.entity(requestContext.getEntity(), requestContext.getMediaType()));
     }
 
+    // The Client is created once per converter and shared by all conversions, as creating it is expensive e.g. on Jersey
+    private Client getRoundTripClient() {
+        RoundTripClient client = roundTripClient;
+        if (client == null) {
+            synchronized (this) {
+                client = roundTripClient;
+                if (client == null) {
+                    // Directly closing the 'inner' client causes Jersey to close the 'outer' client as well
+                    Client newClient = ClientBuilder.newClient().register(ROUND_TRIP_FILTER);
+                    client = new RoundTripClient(newClient, ClientCleaner.register(this, newClient));
+                    roundTripClient = client;
+                }
+            }
+        }
+        return client.client();
+    }
+
+    /**
+     * Close the {@link Client} used for conversions, if it was created.
+     * <p>A new {@code Client} is created by the next conversion.</p>
+     */
+    public void close() {
+        RoundTripClient client;
+        synchronized (this) {
+            client = roundTripClient;
+            roundTripClient = null;
+        }
+
+        if (client != null) {
+            // Runs the cleaning action at most once, so the Cleaner won't close the Client a second time
+            client.cleanable().clean();
+        }
+    }
+
+    private record RoundTripClient(Client client, Cleanable cleanable) {}
+
     private static final class RoundTripFilter implements ClientRequestFilter {
 
         @Override
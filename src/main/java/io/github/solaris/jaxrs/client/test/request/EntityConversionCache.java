@@ -0,0 +1,64 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.RequestContextStub;
+
+// Caches conversions of the request entity as a property of the current request, so that multiple RequestMatchers,
+// and the same RequestMatcher of multiple candidate expectations, share a single conversion of the entity.
+// The cache is discarded once the request entity is replaced, e.g. after buffering a multipart entity.
+final class EntityConversionCache {
+    private static final String PROPERTY_NAME = EntityConversionCache.class.getName();
+
+    private final @Nullable Object entity;
+    private final Map<Object, Object> conversions = new HashMap<>();
+
+    private EntityConversionCache(@Nullable Object entity) {
+        this.entity = entity;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T, X extends Exception> T computeIfAbsent(ClientRequestContext requestContext, Object key, Conversion<T, X> conversion) throws X {
+        if (requestContext instanceof RequestContextStub) {
+            return conversion.convert();
+        }
+
+        Object entity = requestContext.getEntity();
+        EntityConversionCache cache;
+        if (requestContext.getProperty(PROPERTY_NAME) instanceof EntityConversionCache existing && existing.entity == entity) {
+            cache = existing;
+        } else {
+            cache = new EntityConversionCache(entity);
+            requestContext.setProperty(PROPERTY_NAME, cache);
+        }
+
+        Object converted = cache.conversions.get(key);
+        if (converted == null) {
+            converted = conversion.convert();
+            cache.conversions.put(key, converted);
+        }
+        return (T) converted;
+    }
+
+    static @Nullable Object get(ClientRequestContext requestContext, Object key) {
+        if (requestContext.getProperty(PROPERTY_NAME) instanceof EntityConversionCache existing && existing.entity == requestContext.getEntity()) {
+            return existing.conversions.get(key);
+        }
+        return null;
+    }
+
+    // Stores a value that was derived from the current entity, e.g. after the entity has been replaced
+    static void put(ClientRequestContext requestContext, Object key, Object value) {
+        computeIfAbsent(requestContext, key, () -> value);
+    }
+
+    @FunctionalInterface
+    interface Conversion<T, X extends Exception> {
+        T convert() throws X;
+    }
+}
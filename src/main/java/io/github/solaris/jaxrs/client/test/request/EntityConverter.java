@@ -2,20 +2,34 @@ package io.github.solaris.jaxrs.client.test.request;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.MediaType.CHARSET_PARAMETER;
 import static jakarta.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
 import static jakarta.ws.rs.core.MediaType.MULTIPART_FORM_DATA_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedReader;
 import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
 import java.lang.reflect.Type;
+import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.GenericEntity;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
 
 import org.jspecify.annotations.Nullable;
 
@@ -37,6 +51,7 @@ import org.jspecify.annotations.Nullable;
  * </code></pre>
  */
 public abstract sealed class EntityConverter permits ClientEntityConverter, ProvidersEntityConverter {
+    private static final Set<Class<?>> CACHED_TYPES = Set.of(String.class, byte[].class, Form.class);
 
     EntityConverter() {}
 
@@ -124,6 +139,58 @@ public abstract sealed class EntityConverter permits ClientEntityConverter, Prov
         return new ArrayList<>(bufferedParts);
     }
 
+    /**
+     * <p>
+     * Buffer the request entity of type {@code List<EntityPart>} lazily and set it as the request entity.
+     * </p>
+     * <p>
+     * The metadata of each returned {@code EntityPart}, i.e. its name, file name, media type and headers, is available immediately,
+     * while its content is only buffered the first time it is accessed. Parts whose content is never accessed are never buffered,
+     * so e.g. a small metadata part can be asserted without buffering large attachments.
+     * </p>
+     * <p>
+     * Repeated calls for the same request return the same {@code EntityParts}.
+     * Comparing the returned {@code EntityParts} via {@code equals} buffers both of them.
+     * They are equal to the {@code EntityParts} of the same content returned by {@link #bufferMultipartRequest(ClientRequestContext)}.
+     * </p>
+     * <p>
+     * <strong>Only CXF exposes the parts of the request without serializing them</strong>, so untouched parts are only kept out of memory there.
+     * All other implementations serialize the whole entity and read it back with their multipart reader before the parts are returned,
+     * so the content of every part is held in memory by the implementation regardless of which parts are accessed.
+     * On these implementations, the lazy mode only saves copying untouched parts into the buffers of this library.
+     * </p>
+     *
+     * @param requestContext The current request
+     * @return The lazily buffered request entity
+     * @throws IOException If an I/O error occurs during deserialization
+     */
+    @SuppressWarnings("unchecked")
+    public List<EntityPart> bufferMultipartRequestLazily(ClientRequestContext requestContext) throws IOException {
+        assertMultiPartEntityPresent(requestContext);
+        if (EntityConversionCache.get(requestContext, LazyEntityPart.class) instanceof List<?> lazyParts) {
+            return new ArrayList<>((List<EntityPart>) lazyParts);
+        }
+
+        List<LazyEntityPart> lazyParts = new ArrayList<>();
+        // See bufferMultipartRequest
+        if (requestContext.getClass().getPackageName().contains("cxf")) {
+            for (EntityPart entityPart : ((List<EntityPart>) requestContext.getEntity())) {
+                lazyParts.add(new LazyEntityPart(entityPart, this));
+            }
+        } else {
+            for (EntityPart entityPart : serializeEntityParts(requestContext)) {
+                lazyParts.add(new LazyEntityPart(entityPart, this));
+            }
+
+            requestContext.getHeaders().putSingle(CONTENT_TYPE, MULTIPART_FORM_DATA);
+        }
+
+        requestContext.setEntity(recreateLazyEntityParts(lazyParts));
+        List<EntityPart> parts = List.copyOf(lazyParts);
+        EntityConversionCache.put(requestContext, LazyEntityPart.class, parts);
+        return new ArrayList<>(parts);
+    }
+
     /**
      * Obtain the entity from the current {@link ClientRequestContext} and convert it to the type.
      *
@@ -146,6 +213,100 @@ public abstract sealed class EntityConverter permits ClientEntityConverter, Prov
 
     abstract List<EntityPart> serializeEntityParts(ClientRequestContext requestContext) throws IOException;
 
+    // Conversions into the types used by the built-in RequestMatchers are cached for the current request
+    static <T> T convertCached(ClientRequestContext requestContext, Class<T> type, EntityConversionCache.Conversion<T, IOException> conversion)
+            throws IOException {
+        if (!CACHED_TYPES.contains(type)) {
+            return conversion.convert();
+        }
+
+        T converted = EntityConversionCache.computeIfAbsent(requestContext, type, conversion);
+        if (converted instanceof byte[] bytes) {
+            // Prevent RequestMatchers from modifying the cached conversions
+            return type.cast(bytes.clone());
+        } else if (converted instanceof Form form) {
+            return type.cast(new Form(new MultivaluedHashMap<>(form.asMap())));
+        }
+        return converted;
+    }
+
+    // Raw entities are converted into raw types directly instead of writing and reading them through a provider,
+    // using the charset of the request or UTF-8 like the built-in String providers do
+    static @Nullable Object convertRawEntity(ClientRequestContext requestContext, Class<?> type) throws IOException {
+        Object entity = requestContext.getEntity();
+        if (String.class.equals(type)) {
+            if (entity instanceof byte[] bytes) {
+                return new String(bytes, getCharset(requestContext.getMediaType()));
+            } else if (entity instanceof InputStream inputStream) {
+                return new String(readEntityStream(requestContext, inputStream), getCharset(requestContext.getMediaType()));
+            }
+        } else if (byte[].class.equals(type)) {
+            if (entity instanceof String string) {
+                return string.getBytes(getCharset(requestContext.getMediaType()));
+            } else if (entity instanceof InputStream inputStream) {
+                return readEntityStream(requestContext, inputStream);
+            }
+        } else if (InputStream.class.equals(type)) {
+            if (entity instanceof String string) {
+                return new ByteArrayInputStream(string.getBytes(getCharset(requestContext.getMediaType())));
+            } else if (entity instanceof byte[] bytes) {
+                return new ByteArrayInputStream(bytes);
+            }
+        }
+        return null;
+    }
+
+    // The entity is read through a resettable stream, so converting it into other types afterwards still reads the entire entity
+    private static byte[] readEntityStream(ClientRequestContext requestContext, InputStream entityStream) throws IOException {
+        try (InputStream inputStream = resettableEntityStream(requestContext, entityStream)) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    // Reads String, byte[] and InputStream entities directly and everything else through its serialized form,
+    // so the entity is never held as a String
+    static Reader getEntityReader(ClientRequestContext requestContext) throws IOException {
+        Object entity = requestContext.getEntity();
+        if (entity instanceof String string) {
+            return new StringReader(string);
+        }
+
+        InputStream inputStream;
+        if (entity instanceof InputStream entityStream) {
+            inputStream = resettableEntityStream(requestContext, entityStream);
+        } else {
+            inputStream = fromRequestContext(requestContext).convertEntity(requestContext, InputStream.class);
+        }
+        return new BufferedReader(new InputStreamReader(inputStream, getCharset(requestContext.getMediaType())));
+    }
+
+    // InputStream entities can only be read once, so they are replaced by a stream that buffers what has been read
+    // and is reset once the Reader is closed, allowing further RequestMatchers to read the entity from the start
+    private static InputStream resettableEntityStream(ClientRequestContext requestContext, InputStream entityStream) {
+        BufferedInputStream bufferedStream;
+        if (entityStream instanceof ResettableEntityStream resettable) {
+            bufferedStream = resettable;
+        } else {
+            bufferedStream = new ResettableEntityStream(entityStream);
+            requestContext.setEntity(bufferedStream);
+        }
+
+        bufferedStream.mark(Integer.MAX_VALUE);
+        return new FilterInputStream(bufferedStream) {
+            @Override
+            public void close() throws IOException {
+                bufferedStream.reset();
+            }
+        };
+    }
+
+    static Charset getCharset(@Nullable MediaType mediaType) {
+        if (mediaType != null && mediaType.getParameters().containsKey(CHARSET_PARAMETER)) {
+            return Charset.forName(mediaType.getParameters().get(CHARSET_PARAMETER));
+        }
+        return UTF_8;
+    }
+
     static boolean canShortCircuit(ClientRequestContext requestContext, Class<?> type, @Nullable Type genericType) {
         if (genericType == null) {
             return type.isAssignableFrom(requestContext.getEntityClass());
@@ -176,10 +337,14 @@ public abstract sealed class EntityConverter permits ClientEntityConverter, Prov
         List<EntityPart> recreated = new ArrayList<>(parts.size());
         for (BufferedEntityPart part : parts) {
             EntityPart.Builder builder;
+            byte[] heapBuffer = part.getBuffer().getHeapBuffer();
             if (part.getFileName().isPresent()) {
-                builder = EntityPart.withFileName(part.getFileName().get()).content(new ByteArrayInputStream(part.getBuffer()));
+                builder = EntityPart.withFileName(part.getFileName().get()).content(part.getContent());
+            } else if (heapBuffer != null) {
+                builder = EntityPart.withName(part.getName()).content(heapBuffer);
             } else {
-                builder = EntityPart.withName(part.getName()).content(part.getBuffer());
+                // Parts spilled to disk are streamed from their mapping instead of being read back into a byte[]
+                builder = EntityPart.withName(part.getName()).content(part.getContent());
             }
 
             recreated.add(builder.headers(part.getHeaders()).mediaType(part.getMediaType()).build());
@@ -187,4 +352,68 @@ public abstract sealed class EntityConverter permits ClientEntityConverter, Prov
 
         return new GenericEntity<>(recreated) {};
     }
+
+    // The content of the recreated EntityParts is only buffered once they're read, e.g. by an eager bufferMultipartRequest
+    private static GenericEntity<List<EntityPart>> recreateLazyEntityParts(List<LazyEntityPart> parts) throws IOException {
+        List<EntityPart> recreated = new ArrayList<>(parts.size());
+        for (LazyEntityPart part : parts) {
+            EntityPart.Builder builder;
+            if (part.getFileName().isPresent()) {
+                builder = EntityPart.withFileName(part.getFileName().get());
+            } else {
+                builder = EntityPart.withName(part.getName());
+            }
+
+            recreated.add(builder.content(new DeferredInputStream(part)).headers(part.getHeaders()).mediaType(part.getMediaType()).build());
+        }
+
+        return new GenericEntity<>(recreated) {};
+    }
+
+    // Opens the content of the LazyEntityPart on the first read
+    private static final class DeferredInputStream extends InputStream {
+        private final LazyEntityPart part;
+        private @Nullable InputStream content;
+
+        private DeferredInputStream(LazyEntityPart part) {
+            this.part = part;
+        }
+
+        private InputStream content() throws IOException {
+            if (content == null) {
+                content = part.getBufferedPart().getContent();
+            }
+            return content;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return content().read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return content().read(b, off, len);
+        }
+
+        @Override
+        public int available() throws IOException {
+            return content == null ? 0 : content.available();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (content != null) {
+                content.close();
+            }
+        }
+    }
+
+    // Distinguishes the replaced entity from BufferedInputStreams passed as the entity by the client
+    private static final class ResettableEntityStream extends BufferedInputStream {
+
+        private ResettableEntityStream(InputStream in) {
+            super(in);
+        }
+    }
 }
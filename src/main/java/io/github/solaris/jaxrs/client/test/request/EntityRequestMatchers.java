@@ -6,6 +6,7 @@ import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertTrue
 
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.Form;
@@ -39,11 +40,11 @@ public final class EntityRequestMatchers {
      */
     public RequestMatcher mediaType(MediaType mediaType) {
         validateNotNull(mediaType, "'mediaType' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> mediaType.equals(request.getMediaType()), request -> {
             MediaType actual = request.getMediaType();
             assertTrue("MediaType was not set.", actual != null);
             assertEqual("MediaType", mediaType, actual);
-        };
+        });
     }
 
     /**
@@ -52,7 +53,9 @@ public final class EntityRequestMatchers {
      * @param expected The expected request entity
      */
     public RequestMatcher isEqualTo(@Nullable Object expected) {
-        return request -> assertEqual("Entity", expected, request.getEntity());
+        return new ProbingRequestMatcher(
+                request -> Objects.equals(expected, request.getEntity()),
+                request -> assertEqual("Entity", expected, request.getEntity()));
     }
 
     /**
@@ -62,11 +65,13 @@ public final class EntityRequestMatchers {
      */
     public RequestMatcher string(String expectedString) {
         validateNotNull(expectedString, "'expectedString' must not be null.");
-        return request -> {
-            EntityConverter entityConverter = EntityConverter.fromRequestContext(request);
-            String actual = entityConverter.convertEntity(request, String.class);
-            assertEqual("Entity String", expectedString, actual);
-        };
+        return new ProbingRequestMatcher(
+                request -> expectedString.equals(EntityConverter.fromRequestContext(request).convertEntity(request, String.class)),
+                request -> {
+                    EntityConverter entityConverter = EntityConverter.fromRequestContext(request);
+                    String actual = entityConverter.convertEntity(request, String.class);
+                    assertEqual("Entity String", expectedString, actual);
+                });
     }
 
     /**
@@ -76,11 +81,13 @@ public final class EntityRequestMatchers {
      */
     public RequestMatcher form(Form expectedForm) {
         validateNotNull(expectedForm, "'expectedForm' must not be null.");
-        return request -> {
-            EntityConverter entityConverter = EntityConverter.fromRequestContext(request);
-            Form form = entityConverter.convertEntity(request, Form.class);
-            assertEqual("Form", expectedForm.asMap(), form.asMap());
-        };
+        return new ProbingRequestMatcher(
+                request -> expectedForm.asMap().equals(EntityConverter.fromRequestContext(request).convertEntity(request, Form.class).asMap()),
+                request -> {
+                    EntityConverter entityConverter = EntityConverter.fromRequestContext(request);
+                    Form form = entityConverter.convertEntity(request, Form.class);
+                    assertEqual("Form", expectedForm.asMap(), form.asMap());
+                });
     }
 
     /**
@@ -95,7 +102,10 @@ public final class EntityRequestMatchers {
      */
     public RequestMatcher formContains(Form expectedForm) {
         validateNotNull(expectedForm, "'expectedForm' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            MultivaluedMap<String, String> actualMap = EntityConverter.fromRequestContext(request).convertEntity(request, Form.class).asMap();
+            return containsSubset(actualMap, expectedForm.asMap());
+        }, request -> {
             EntityConverter entityConverter = EntityConverter.fromRequestContext(request);
             MultivaluedMap<String, String> expectedMap = expectedForm.asMap();
             MultivaluedMap<String, String> actualMap = entityConverter.convertEntity(request, Form.class).asMap();
@@ -112,7 +122,7 @@ public final class EntityRequestMatchers {
                     assertEqual("FormParam [name=" + name + ", position=" + i + "]", values.get(i), actualMap.get(name).get(i));
                 }
             }
-        };
+        });
     }
 
     /**
@@ -123,13 +133,16 @@ public final class EntityRequestMatchers {
      */
     public RequestMatcher multipartForm(List<EntityPart> expectedEntityParts) {
         validateNotNull(expectedEntityParts, "'expectedEntityParts' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            return converter.bufferExpectedMultipart(expectedEntityParts).equals(converter.bufferMultipartRequest(request));
+        }, request -> {
             EntityConverter converter = EntityConverter.fromRequestContext(request);
             List<EntityPart> expectedParts = converter.bufferExpectedMultipart(expectedEntityParts);
             List<EntityPart> actualParts = converter.bufferMultipartRequest(request);
 
             assertEqual("Multipart Form", expectedParts, actualParts);
-        };
+        });
     }
 
     /**
@@ -142,7 +155,12 @@ public final class EntityRequestMatchers {
      */
     public RequestMatcher multipartFormContains(List<EntityPart> expectedEntityParts) {
         validateNotNull(expectedEntityParts, "'expectedEntityParts' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            List<EntityPart> expectedParts = converter.bufferExpectedMultipart(expectedEntityParts);
+            List<EntityPart> actualParts = converter.bufferMultipartRequest(request);
+            return expectedParts.size() <= actualParts.size() && actualParts.containsAll(expectedParts);
+        }, request -> {
             EntityConverter converter = EntityConverter.fromRequestContext(request);
             List<EntityPart> expectedParts = converter.bufferExpectedMultipart(expectedEntityParts);
             List<EntityPart> actualParts = converter.bufferMultipartRequest(request);
@@ -150,6 +168,58 @@ public final class EntityRequestMatchers {
             assertTrue("Expected " + expectedParts + " to be smaller or the same size as " + actualParts,
                     expectedParts.size() <= actualParts.size());
             assertTrue("Expected " + actualParts + " to contain all of " + expectedParts, actualParts.containsAll(expectedParts));
+        });
+    }
+
+    /**
+     * <p>
+     * Convert the request entity into a {@link List} of {@link EntityPart EntityParts}
+     * and assert the first {@code EntityPart} with the given name with the supplied assertion.
+     * </p>
+     * <p>
+     * The {@code EntityParts} are buffered lazily via {@link EntityConverter#bufferMultipartRequestLazily(jakarta.ws.rs.client.ClientRequestContext)},
+     * so only the content of the asserted {@code EntityPart} is buffered, if the assertion accesses it.
+     * Note that only CXF avoids holding the content of the other {@code EntityParts} in memory, see the linked method for details.
+     * </p>
+     * <p>
+     * Comparing the asserted {@code EntityPart} via {@code equals} or {@code hashCode} buffers its content.
+     * It is equal to the {@code EntityPart} of the same content returned by {@link EntityConverter#bufferMultipartRequest(jakarta.ws.rs.client.ClientRequestContext)}
+     * or {@link EntityConverter#bufferExpectedMultipart(List)}. An I/O error during buffering is thrown as an {@link java.io.UncheckedIOException}.
+     * </p>
+     *
+     * @param name          The name of the {@code EntityPart} to assert
+     * @param partAssertion An arbitrary assertion with which to assert the {@code EntityPart}
+     */
+    public RequestMatcher multipartPart(String name, ThrowingConsumer<EntityPart> partAssertion) {
+        validateNotNull(name, "'name' must not be null.");
+        validateNotNull(partAssertion, "'partAssertion' must not be null.");
+        return request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            List<EntityPart> actualParts = converter.bufferMultipartRequestLazily(request);
+
+            EntityPart part = actualParts.stream()
+                    .filter(actualPart -> name.equals(actualPart.getName()))
+                    .findFirst()
+                    .orElseThrow(() -> new AssertionError("Expected " + actualParts + " to contain a part named '" + name + "'"));
+            try {
+                partAssertion.accept(part);
+            } catch (Exception e) {
+                throw new AssertionError(e);
+            }
         };
     }
+
+    private static boolean containsSubset(MultivaluedMap<String, String> actualMap, MultivaluedMap<String, String> expectedMap) {
+        if (expectedMap.size() > actualMap.size()) {
+            return false;
+        }
+        for (Map.Entry<String, List<String>> entry : expectedMap.entrySet()) {
+            List<String> actualValues = actualMap.get(entry.getKey());
+            List<String> values = entry.getValue();
+            if (actualValues == null || values.size() > actualValues.size() || !values.equals(actualValues.subList(0, values.size()))) {
+                return false;
+            }
+        }
+        return true;
+    }
 }
@@ -6,9 +6,12 @@ import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertEqua
 import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertTrue;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.function.Supplier;
 
 import jakarta.ws.rs.client.ClientRequestContext;
@@ -17,8 +20,11 @@ import jakarta.ws.rs.core.GenericType;
 import org.jspecify.annotations.Nullable;
 
 import com.jayway.jsonpath.Configuration;
+import com.jayway.jsonpath.DocumentContext;
 import com.jayway.jsonpath.JsonPath;
+import com.jayway.jsonpath.PathNotFoundException;
 import com.jayway.jsonpath.TypeRef;
+import com.jayway.jsonpath.spi.json.JsonProvider;
 import com.jayway.jsonpath.spi.mapper.Jackson3MappingProvider;
 import com.jayway.jsonpath.spi.mapper.JacksonMappingProvider;
 import com.jayway.jsonpath.spi.mapper.MappingProvider;
@@ -36,14 +42,46 @@ public final class JsonPathRequestMatchers {
             Jackson3Support::getProvider
     );
 
+    private static volatile @Nullable Configuration jacksonConfiguration;
+
     private final String expression;
     private final JsonPath jsonPath;
+    private final @Nullable StreamingJsonPath streamingJsonPath;
 
     JsonPathRequestMatchers(String expression, Object... args) {
         validateNotBlank(expression, "JsonPath expression must not be null or blank.");
         validateNotNull(args, "'args' must not be null.");
         this.expression = expression.formatted(args);
         this.jsonPath = JsonPath.compile(this.expression);
+        this.streamingJsonPath = null;
+    }
+
+    private JsonPathRequestMatchers(JsonPathRequestMatchers matchers, @Nullable StreamingJsonPath streamingJsonPath) {
+        this.expression = matchers.expression;
+        this.jsonPath = matchers.jsonPath;
+        this.streamingJsonPath = streamingJsonPath;
+    }
+
+    /**
+     * Evaluate the JsonPath expression while reading the request entity, instead of parsing the entire entity first.
+     * <p>
+     * Reading stops as soon as the value has been found and only the value itself is parsed.
+     * Request entities of type {@link String}, {@code byte[]} and {@link InputStream} are read directly,
+     * so large entities of these types can be matched without holding a parsed document in memory.
+     * Any other entity is serialized entirely before it is read.
+     * </p>
+     * <p>
+     * Only {@linkplain JsonPath#isDefinite() definite} expressions that consist of property names and array indices,
+     * e.g. {@code $.header.items[0].id}, are evaluated while streaming. Any other expression,
+     * or a request entity that does not have the structure the expression expects, is evaluated regularly.
+     * </p>
+     * <h4>Note:</h4>
+     * Request entities of type {@link InputStream} are buffered up to where reading stopped, so they can be read again by further matchers.
+     *
+     * @return {@code JsonPathRequestMatchers} that evaluate the expression while streaming the request entity
+     */
+    public JsonPathRequestMatchers streaming() {
+        return new JsonPathRequestMatchers(this, jsonPath.isDefinite() ? StreamingJsonPath.compile(expression) : null);
     }
 
     /**
@@ -62,9 +100,28 @@ public final class JsonPathRequestMatchers {
      * @param expectedValue The expected value, possibly {@code null}
      */
     public RequestMatcher value(@Nullable Object expectedValue) {
-        return request -> {
-            String jsonString = getJsonString(request);
-            Object value = evaluate(jsonString);
+        return new ProbingRequestMatcher(request -> {
+            Evaluation evaluation = tryEvaluate(request);
+            if (evaluation.failure() != null) {
+                return false;
+            }
+
+            Object value = evaluation.value();
+            if (value instanceof List<?> valueList && !(expectedValue instanceof List<?>)) {
+                if (valueList.size() != 1) {
+                    return false;
+                }
+                value = valueList.get(0);
+            } else if (value != null && expectedValue != null && !value.getClass().equals(expectedValue.getClass())) {
+                Evaluation converted = tryEvaluate(request, expectedValue.getClass());
+                if (converted.failure() != null) {
+                    return false;
+                }
+                value = converted.value();
+            }
+            return Objects.equals(expectedValue, value);
+        }, request -> {
+            Object value = evaluate(request);
             if (value instanceof List<?> valueList && !(expectedValue instanceof List<?>)) {
                 if (valueList.isEmpty()) {
                     throw new AssertionError("Found no value matching " + expectedValue + " at JSON path \"" + expression + "\"");
@@ -77,7 +134,7 @@ public final class JsonPathRequestMatchers {
                 value = valueList.get(0);
             } else if (value != null && expectedValue != null && !value.getClass().equals(expectedValue.getClass())) {
                 try {
-                    value = evaluate(jsonString, expectedValue.getClass());
+                    value = evaluate(request, expectedValue.getClass());
                 } catch (AssertionError e) {
                     throw new AssertionError(value
                             + " cannot be converted to type "
@@ -87,7 +144,7 @@ public final class JsonPathRequestMatchers {
             }
 
             assertEqual("JSON Path \"" + expression + "\"", expectedValue, value);
-        };
+        });
     }
 
     /**
@@ -98,7 +155,7 @@ public final class JsonPathRequestMatchers {
      * </p>
      */
     public RequestMatcher exists() {
-        return request -> assertExistsAndGet(getJsonString(request));
+        return new ProbingRequestMatcher(request -> isExisting(tryEvaluate(request)), request -> assertExistsAndGet(request));
     }
 
     /**
@@ -109,10 +166,19 @@ public final class JsonPathRequestMatchers {
      * </p>
      */
     public RequestMatcher doesNotExist() {
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            Evaluation evaluation = tryEvaluate(request);
+            if (evaluation.failure() != null) {
+                return true;
+            }
+            if (!jsonPath.isDefinite() && evaluation.value() instanceof List<?> list) {
+                return list.isEmpty();
+            }
+            return evaluation.value() == null;
+        }, request -> {
             Object value;
             try {
-                value = evaluate(getJsonString(request));
+                value = evaluate(request);
             } catch (AssertionError e) {
                 return;
             }
@@ -123,7 +189,7 @@ public final class JsonPathRequestMatchers {
             } else {
                 assertTrue(failureMessage, value == null);
             }
-        };
+        });
     }
 
     /**
@@ -134,12 +200,15 @@ public final class JsonPathRequestMatchers {
      * </p>
      */
     public RequestMatcher hasJsonPath() {
-        return request -> {
-            Object value = evaluate(getJsonString(request));
+        return new ProbingRequestMatcher(request -> {
+            Evaluation evaluation = tryEvaluate(request);
+            return evaluation.failure() == null && !isEmptyIndefinite(evaluation.value());
+        }, request -> {
+            Object value = evaluate(request);
             if (!jsonPath.isDefinite() && value instanceof List<?> list) {
                 assertTrue("No values for JSON Path \"" + expression + "\"", !list.isEmpty());
             }
-        };
+        });
     }
 
     /**
@@ -150,10 +219,13 @@ public final class JsonPathRequestMatchers {
      * </p>
      */
     public RequestMatcher doesNotHaveJsonPath() {
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            Evaluation evaluation = tryEvaluate(request);
+            return evaluation.failure() != null || isEmptyIndefinite(evaluation.value());
+        }, request -> {
             Object value;
             try {
-                value = evaluate(getJsonString(request));
+                value = evaluate(request);
             } catch (AssertionError e) {
                 return;
             }
@@ -164,57 +236,42 @@ public final class JsonPathRequestMatchers {
                 String message = createFailureMessage("no value", value);
                 throw new AssertionError(message);
             }
-        };
+        });
     }
 
     /**
      * Evaluate the JsonPath expression and assert that the result is a {@link String}.
      */
     public RequestMatcher isString() {
-        return request -> {
-            Object value = assertExistsAndGet(getJsonString(request));
-            assertTrue(createFailureMessage("a string", value), value instanceof String);
-        };
+        return isType("a string", String.class);
     }
 
     /**
      * Evaluate the JsonPath expression and assert that the result is a {@link Boolean}.
      */
     public RequestMatcher isBoolean() {
-        return request -> {
-            Object value = assertExistsAndGet(getJsonString(request));
-            assertTrue(createFailureMessage("a boolean", value), value instanceof Boolean);
-        };
+        return isType("a boolean", Boolean.class);
     }
 
     /**
      * Evaluate the JsonPath expression and assert that the result is a {@link Number}.
      */
     public RequestMatcher isNumber() {
-        return request -> {
-            Object value = assertExistsAndGet(getJsonString(request));
-            assertTrue(createFailureMessage("a number", value), value instanceof Number);
-        };
+        return isType("a number", Number.class);
     }
 
     /**
      * Evaluate the JsonPath expression and assert that the result is an {@code Array}.
      */
     public RequestMatcher isArray() {
-        return request -> {
-            Object value = assertExistsAndGet(getJsonString(request));
-            assertTrue(createFailureMessage("an array", value), value instanceof List<?>);
-        };
+        return isType("an array", List.class);
     }
 
     /**
      * Evaluate the JsonPath expression and assert that the result is a {@link Map}.
      */
     public RequestMatcher isMap() {
-        return request -> {
-            Object value = assertExistsAndGet(getJsonString(request));
-            assertTrue(createFailureMessage("a map", value), value instanceof Map<?, ?>);
-        };
+        return isType("a map", Map.class);
     }
 
     /**
@@ -231,7 +288,7 @@ public final class JsonPathRequestMatchers {
         validateNotNull(targetType, "'targetType' must not be null.");
         return request -> {
             try {
-                valueAssertion.accept(evaluate(getJsonString(request), targetType));
+                valueAssertion.accept(evaluate(request, targetType));
             } catch (Exception e) {
                 throw new AssertionError(e);
             }
@@ -252,58 +309,172 @@ public final class JsonPathRequestMatchers {
         validateNotNull(targetType, "'targetType' must not be null.");
         return request -> {
             try {
-                valueAssertion.accept(evaluate(getJsonString(request), targetType));
+                valueAssertion.accept(evaluate(request, targetType));
             } catch (Exception e) {
                 throw new AssertionError(e);
             }
         };
     }
 
-    private Object assertExistsAndGet(String jsonString) {
-        Object value = evaluate(jsonString);
+    private RequestMatcher isType(String description, Class<?> type) {
+        return new ProbingRequestMatcher(request -> {
+            Evaluation evaluation = tryEvaluate(request);
+            return isExisting(evaluation) && type.isInstance(evaluation.value());
+        }, request -> {
+            Object value = assertExistsAndGet(request);
+            assertTrue(createFailureMessage(description, value), type.isInstance(value));
+        });
+    }
+
+    private Object assertExistsAndGet(ClientRequestContext requestContext) throws IOException {
+        Object value = evaluate(requestContext);
         String message = "Found no value for JSON path \"" + expression + "\"";
         if (value == null) {
             throw new AssertionError(message);
         }
-        if (!jsonPath.isDefinite() && value instanceof List<?> list && list.isEmpty()) {
+        if (isEmptyIndefinite(value)) {
             throw new AssertionError(message);
         }
 
         return value;
     }
 
-    private @Nullable Object evaluate(String jsonString) {
+    private boolean isExisting(Evaluation evaluation) {
+        return evaluation.failure() == null && evaluation.value() != null && !isEmptyIndefinite(evaluation.value());
+    }
+
+    private boolean isEmptyIndefinite(@Nullable Object value) {
+        return !jsonPath.isDefinite() && value instanceof List<?> list && list.isEmpty();
+    }
+
+    private @Nullable Object evaluate(ClientRequestContext requestContext) throws IOException {
+        Evaluation evaluation = tryEvaluate(requestContext);
+        if (evaluation.failure() != null) {
+            throw new AssertionError("Found no value for JSON path \"" + expression + "\"", evaluation.failure());
+        }
+        return evaluation.value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends @Nullable Object> T evaluate(ClientRequestContext requestContext, Class<T> type) throws IOException {
+        Evaluation evaluation = tryEvaluate(requestContext, type);
+        if (evaluation.failure() != null) {
+            throw new AssertionError("Failed to evaluate JSON path \"" + expression + "\" with type " + type, evaluation.failure());
+        }
+        return (T) evaluation.value();
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T extends @Nullable Object> T evaluate(ClientRequestContext requestContext, GenericType<T> type) throws IOException {
+        Evaluation evaluation = tryEvaluate(requestContext, type);
+        if (evaluation.failure() != null) {
+            throw new AssertionError("Failed to evaluate JSON path \"" + expression + "\" with type " + type, evaluation.failure());
+        }
+        return (T) evaluation.value();
+    }
+
+    // The tryEvaluate methods report a missing value without throwing, so the RequestMatchers can be probed without an AssertionError
+
+    private Evaluation tryEvaluate(ClientRequestContext requestContext) throws IOException {
+        Evaluation streamed = evaluateStreaming(requestContext);
+        if (streamed != null) {
+            return streamed;
+        }
+
+        String jsonString = getJsonString(requestContext);
         try {
-            return jsonPath.read(jsonString);
+            return Evaluation.of(parse(requestContext, jsonString, DocumentMapping.DEFAULT).read(jsonPath));
         } catch (Throwable t) {
             if (t.getMessage() != null && t.getMessage().contains("This is not a json object")) {
                 throw t;
             }
-            throw new AssertionError("Found no value for JSON path \"" + expression + "\"", t);
+            return Evaluation.failed(t);
         }
     }
 
-    private <T extends @Nullable Object> T evaluate(String jsonString, Class<T> type) {
-        try {
-            if (type.isRecord()) {
-                return JsonPath.parse(jsonString, getJacksonConfiguration()).read(expression, type);
-            } else {
-                return JsonPath.parse(jsonString).read(expression, type);
+    private Evaluation tryEvaluate(ClientRequestContext requestContext, Class<?> type) throws IOException {
+        Evaluation streamed = evaluateStreaming(requestContext);
+        if (streamed != null) {
+            if (streamed.failure() != null) {
+                return streamed;
             }
+            try {
+                Configuration configuration = type.isRecord() ? getJacksonConfiguration() : Configuration.defaultConfiguration();
+                return Evaluation.of(configuration.mappingProvider().map(streamed.value(), type, configuration));
+            } catch (Throwable t) {
+                return Evaluation.failed(t);
+            }
+        }
+
+        String jsonString = getJsonString(requestContext);
+        try {
+            DocumentMapping mapping = type.isRecord() ? DocumentMapping.JACKSON : DocumentMapping.DEFAULT;
+            return Evaluation.of(parse(requestContext, jsonString, mapping).read(jsonPath, type));
         } catch (Throwable t) {
-            throw new AssertionError("Failed to evaluate JSON path \"" + expression + "\" with type " + type, t);
+            return Evaluation.failed(t);
         }
     }
 
-    private <T extends @Nullable Object> T evaluate(String jsonString, GenericType<T> type) {
+    private Evaluation tryEvaluate(ClientRequestContext requestContext, GenericType<?> type) throws IOException {
+        Evaluation streamed = evaluateStreaming(requestContext);
+        if (streamed != null) {
+            if (streamed.failure() != null) {
+                return streamed;
+            }
+            try {
+                Configuration configuration = getJacksonConfiguration();
+                return Evaluation.of(configuration.mappingProvider().map(streamed.value(), new TypeRefAdapter<>(type), configuration));
+            } catch (Throwable t) {
+                return Evaluation.failed(t);
+            }
+        }
+
+        String jsonString = getJsonString(requestContext);
         try {
-            return JsonPath.parse(jsonString, getJacksonConfiguration()).read(expression, new TypeRefAdapter<>(type));
+            return Evaluation.of(parse(requestContext, jsonString, DocumentMapping.JACKSON).read(jsonPath, new TypeRefAdapter<>(type)));
         } catch (Throwable t) {
-            throw new AssertionError("Failed to evaluate JSON path \"" + expression + "\" with type " + type, t);
+            return Evaluation.failed(t);
+        }
+    }
+
+    // Returns null if the expression is not evaluated while streaming or the entity must be evaluated regularly
+    private @Nullable Evaluation evaluateStreaming(ClientRequestContext requestContext) throws IOException {
+        if (streamingJsonPath == null) {
+            return null;
         }
+
+        try (Reader reader = EntityConverter.getEntityReader(requestContext)) {
+            String rawValue = streamingJsonPath.evaluate(reader);
+            return rawValue == null ? null : Evaluation.of(parseValue(rawValue));
+        } catch (PathNotFoundException e) {
+            return Evaluation.failed(e);
+        }
+    }
+
+    // Parses only the streamed value, with the same JsonProvider that would parse the entire document
+    private static @Nullable Object parseValue(String rawValue) {
+        JsonProvider jsonProvider = Configuration.defaultConfiguration().jsonProvider();
+        return jsonProvider.getMapValue(jsonProvider.parse("{\"value\":" + rawValue + "}"), "value");
+    }
+
+    // The parsed document is cached for the current request, so it is shared by all JsonPath matchers
+    private static DocumentContext parse(ClientRequestContext requestContext, String jsonString, DocumentMapping mapping) {
+        return EntityConversionCache.computeIfAbsent(requestContext, mapping, () -> switch (mapping) {
+            case DEFAULT -> JsonPath.parse(jsonString);
+            case JACKSON -> JsonPath.parse(jsonString, getJacksonConfiguration());
+        });
     }
 
     private static Configuration getJacksonConfiguration() {
+        Configuration configuration = jacksonConfiguration;
+        if (configuration == null) {
+            configuration = createJacksonConfiguration();
+            jacksonConfiguration = configuration;
+        }
+        return configuration;
+    }
+
+    private static Configuration createJacksonConfiguration() {
         for (Supplier<MappingProvider> mappingProvider : JACKSON_MAPPING_PROVIDERS) {
             try {
                 return Configuration.defaultConfiguration().mappingProvider(mappingProvider.get());
@@ -324,6 +495,23 @@ public final class JsonPathRequestMatchers {
         return converter.convertEntity(requestContext, String.class);
     }
 
+    // Either the value at the JSON path or the reason why it could not be evaluated
+    private record Evaluation(@Nullable Object value, @Nullable Throwable failure) {
+
+        private static Evaluation of(@Nullable Object value) {
+            return new Evaluation(value, null);
+        }
+
+        private static Evaluation failed(Throwable failure) {
+            return new Evaluation(null, failure);
+        }
+    }
+
+    private enum DocumentMapping {
+        DEFAULT,
+        JACKSON
+    }
+
     private static final class TypeRefAdapter<T> extends TypeRef<T> {
         private final Type type;
 
@@ -0,0 +1,120 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+
+import jakarta.ws.rs.core.EntityPart;
+import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
+import jakarta.ws.rs.core.MultivaluedHashMap;
+import jakarta.ws.rs.core.MultivaluedMap;
+
+import org.jspecify.annotations.Nullable;
+
+// EntityPart whose metadata is available immediately, while the content of the actual part
+// is only read and buffered into a BufferedEntityPart the first time it is accessed.
+final class LazyEntityPart implements EntityPart {
+    private final EntityPart actualPart;
+    private final EntityConverter converter;
+    private final MultivaluedMap<String, String> headers;
+    private @Nullable BufferedEntityPart bufferedPart;
+
+    LazyEntityPart(EntityPart actualPart, EntityConverter converter) {
+        this.actualPart = actualPart;
+        this.converter = converter;
+        this.headers = BufferedEntityPart.normalizeHeaders(actualPart.getHeaders());
+    }
+
+    synchronized BufferedEntityPart getBufferedPart() throws IOException {
+        if (bufferedPart == null) {
+            bufferedPart = new BufferedEntityPart(actualPart, converter);
+        }
+        return bufferedPart;
+    }
+
+    static BufferedEntityPart bufferedPart(LazyEntityPart lazyPart) {
+        try {
+            return lazyPart.getBufferedPart();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    synchronized boolean isBuffered() {
+        return bufferedPart != null;
+    }
+
+    @Override
+    public String getName() {
+        return actualPart.getName();
+    }
+
+    @Override
+    public Optional<String> getFileName() {
+        return actualPart.getFileName();
+    }
+
+    @Override
+    public InputStream getContent() {
+        try {
+            return getBufferedPart().getContent();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public <T> T getContent(Class<T> type) throws IOException {
+        return getBufferedPart().getContent(type);
+    }
+
+    @Override
+    public <T> T getContent(GenericType<T> genericType) throws IOException {
+        return getBufferedPart().getContent(genericType);
+    }
+
+    @Override
+    public MultivaluedMap<String, String> getHeaders() {
+        return new MultivaluedHashMap<>(headers);
+    }
+
+    @Override
+    public MediaType getMediaType() {
+        return actualPart.getMediaType();
+    }
+
+    // Compares by the buffered part, so a LazyEntityPart equals the BufferedEntityPart of the same content.
+    // Both methods buffer the content, any I/O failure is rethrown as an UncheckedIOException.
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o instanceof LazyEntityPart || o instanceof BufferedEntityPart) {
+            return bufferedPart(this).equals(o);
+        }
+        return false;
+    }
+
+    @Override
+    public int hashCode() {
+        return bufferedPart(this).hashCode();
+    }
+
+    @Override
+    public synchronized String toString() {
+        if (bufferedPart != null) {
+            return bufferedPart.toString();
+        }
+
+        return "LazyEntityPart{"
+                + "name=" + getName()
+                + ", fileName=" + getFileName()
+                + ", mediaType=" + getMediaType()
+                + ", headers=" + getHeaders()
+                + ", content=not buffered"
+                + '}';
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Bounded pool of objects that are expensive to create but not thread-safe, e.g. XML parsers.
+// Unlike a ThreadLocal, the pooled objects are also reused across short-lived threads, e.g. virtual threads.
+// Objects are created on demand if none is idle, at most MAX_IDLE of them are kept once they are released.
+final class ObjectPool<T> {
+    static final int MAX_IDLE = Math.max(4, Runtime.getRuntime().availableProcessors());
+
+    private final Queue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final Supplier<T> factory;
+
+    ObjectPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    T borrow() {
+        T object = idle.poll();
+        if (object == null) {
+            return factory.get();
+        }
+
+        idleCount.decrementAndGet();
+        return object;
+    }
+
+    void release(T object) {
+        if (idleCount.incrementAndGet() <= MAX_IDLE) {
+            idle.offer(object);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
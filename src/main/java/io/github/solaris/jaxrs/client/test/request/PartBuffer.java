@@ -0,0 +1,136 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import io.github.solaris.jaxrs.client.test.internal.ByteBufferInputStream;
+
+// Buffered content of an EntityPart. Content of up to SPILL_THRESHOLD bytes is kept on the heap,
+// larger content is spilled to a temporary file which is memory-mapped for reading.
+// The file is opened with DELETE_ON_CLOSE, so it is deleted once it has been mapped, the mapping stays valid until it is garbage collected.
+// When exactly the file disappears is platform-dependent, e.g. on Windows it's only removed once the mapping has been released.
+// The SHA-256 digest of the content is computed while buffering, so comparing buffers doesn't require reading their content again.
+final class PartBuffer {
+    static final int SPILL_THRESHOLD = 1024 * 1024;
+
+    // A single mapping is limited to Integer.MAX_VALUE bytes
+    private static final long MAX_REGION_SIZE = 1024 * 1024 * 1024;
+
+    private final byte @Nullable [] heapBuffer;
+    private final List<ByteBuffer> regions;
+    private final long size;
+    private final byte[] digest;
+
+    private PartBuffer(byte @Nullable [] heapBuffer, List<ByteBuffer> regions, long size, byte[] digest) {
+        this.heapBuffer = heapBuffer;
+        this.regions = regions;
+        this.size = size;
+        this.digest = digest;
+    }
+
+    static PartBuffer read(InputStream content) throws IOException {
+        DigestInputStream inputStream = new DigestInputStream(content, createDigest());
+        byte[] head = inputStream.readNBytes(SPILL_THRESHOLD);
+        if (head.length < SPILL_THRESHOLD) {
+            return new PartBuffer(head, List.of(), head.length, inputStream.getMessageDigest().digest());
+        }
+
+        int next = inputStream.read();
+        if (next < 0) {
+            return new PartBuffer(head, List.of(), head.length, inputStream.getMessageDigest().digest());
+        }
+
+        return spill(head, next, inputStream);
+    }
+
+    private static MessageDigest createDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            // Unreachable, every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static PartBuffer spill(byte[] head, int next, DigestInputStream remaining) throws IOException {
+        Path file = Files.createTempFile("jax-rs-client-test-", ".part");
+        FileChannel fileChannel;
+        try {
+            fileChannel = FileChannel.open(file, READ, WRITE, DELETE_ON_CLOSE);
+        } catch (IOException | RuntimeException e) {
+            // DELETE_ON_CLOSE only applies to an opened channel
+            Files.deleteIfExists(file);
+            throw e;
+        }
+
+        try (FileChannel channel = fileChannel) {
+            OutputStream outputStream = Channels.newOutputStream(channel);
+            outputStream.write(head);
+            outputStream.write(next);
+            remaining.transferTo(outputStream);
+
+            long size = channel.size();
+            List<ByteBuffer> regions = new ArrayList<>();
+            for (long position = 0; position < size; position += MAX_REGION_SIZE) {
+                regions.add(channel.map(MapMode.READ_ONLY, position, Math.min(MAX_REGION_SIZE, size - position)));
+            }
+            return new PartBuffer(null, List.copyOf(regions), size, remaining.getMessageDigest().digest());
+        }
+    }
+
+    // Null if the content has been spilled to disk
+    byte @Nullable [] getHeapBuffer() {
+        return heapBuffer;
+    }
+
+    long size() {
+        return size;
+    }
+
+    // Each stream reads from its own view of the buffered content, so the content itself is never copied
+    InputStream newInputStream() {
+        if (heapBuffer != null) {
+            return new ByteArrayInputStream(heapBuffer);
+        }
+
+        List<InputStream> streams = new ArrayList<>(regions.size());
+        for (ByteBuffer region : regions) {
+            streams.add(new ByteBufferInputStream(region.duplicate()));
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    String getDigest() {
+        return HexFormat.of().formatHex(digest);
+    }
+
+    boolean contentEquals(PartBuffer other) {
+        return size == other.size && MessageDigest.isEqual(digest, other.digest);
+    }
+
+    int contentHashCode() {
+        return ByteBuffer.wrap(digest).getInt();
+    }
+}
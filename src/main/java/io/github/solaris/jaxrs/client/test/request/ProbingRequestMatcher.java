@@ -0,0 +1,25 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+// Pairs an asserting RequestMatcher with an equivalent check that does not throw on a mismatch,
+// so that candidate expectations can be probed without constructing an AssertionError.
+record ProbingRequestMatcher(RequestProbe probe, RequestMatcher matcher) implements RequestMatcher {
+
+    @Override
+    public void match(ClientRequestContext request) throws IOException {
+        matcher.match(request);
+    }
+
+    @Override
+    public boolean test(ClientRequestContext request) throws IOException {
+        return probe.test(request);
+    }
+
+    @FunctionalInterface
+    interface RequestProbe {
+        boolean test(ClientRequestContext request) throws IOException;
+    }
+}
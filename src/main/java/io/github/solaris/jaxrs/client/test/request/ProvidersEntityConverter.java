@@ -3,21 +3,24 @@ package io.github.solaris.jaxrs.client.test.request;
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 import static io.github.solaris.jaxrs.client.test.request.MultiPartRequestContext.ENTITY_PARTS;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.GenericType;
+import jakarta.ws.rs.core.MediaType;
 import jakarta.ws.rs.ext.MessageBodyReader;
 import jakarta.ws.rs.ext.MessageBodyWriter;
 import jakarta.ws.rs.ext.Providers;
 
+import org.jspecify.annotations.Nullable;
+
 /**
  * {@link EntityConverter} that directly uses the available JAX-RS {@link Providers} to convert the entity.
  *
@@ -30,6 +33,9 @@ public final class ProvidersEntityConverter extends EntityConverter {
     private static final Annotation[] ANNOTATIONS = new Annotation[]{};
 
     private final Providers providers;
+    // Resolving the MessageBodyWriters and -Readers is expensive on some implementations, so they are cached per Providers instance
+    private final Map<WriterKey, MessageBodyWriter<?>> writers = new ConcurrentHashMap<>();
+    private final Map<ReaderKey, MessageBodyReader<?>> readers = new ConcurrentHashMap<>();
 
     public ProvidersEntityConverter(Providers providers) {
         this.providers = providers;
@@ -45,7 +51,13 @@ public final class ProvidersEntityConverter extends EntityConverter {
         if (canShortCircuit(requestContext, type, null)) {
             return (T) requestContext.getEntity();
         }
-        return convertEntity(requestContext, type, type);
+        return convertCached(requestContext, type, () -> {
+            Object rawEntity = convertRawEntity(requestContext, type);
+            if (rawEntity != null) {
+                return type.cast(rawEntity);
+            }
+            return convertEntity(requestContext, type, type);
+        });
     }
 
     @Override
@@ -69,18 +81,13 @@ public final class ProvidersEntityConverter extends EntityConverter {
 
     @SuppressWarnings("unchecked")
     private <T> T convertEntity(ClientRequestContext requestContext, Class<T> type, Type genericType) throws IOException {
-        MessageBodyWriter<Object> writer = (MessageBodyWriter<Object>) providers.getMessageBodyWriter(
-                requestContext.getEntityClass(),
-                requestContext.getEntityType(),
-                requestContext.getEntityAnnotations(),
-                requestContext.getMediaType()
-        );
+        MessageBodyWriter<Object> writer = (MessageBodyWriter<Object>) getMessageBodyWriter(requestContext);
 
         if (writer == null) {
             throw new ProcessingException("Unable to obtain MessageBodyWriter for type=" + type + " and genericType=" + genericType);
         }
 
-        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        SegmentedBuffer buffer = new SegmentedBuffer();
         writer.writeTo(
                 requestContext.getEntity(),
                 requestContext.getEntityClass(),
@@ -88,28 +95,71 @@ public final class ProvidersEntityConverter extends EntityConverter {
                 requestContext.getEntityAnnotations(),
                 requestContext.getMediaType(),
                 requestContext.getHeaders(),
-                outputStream
+                buffer
         );
 
-        MessageBodyReader<T> reader = providers.getMessageBodyReader(
-                type,
-                genericType,
-                ANNOTATIONS,
-                requestContext.getMediaType()
-        );
+        MessageBodyReader<T> reader = getMessageBodyReader(type, genericType, requestContext.getMediaType());
 
         if (reader == null) {
             throw new ProcessingException("Unable to obtain MessageBodyReader for type=" + type + " and genericType=" + genericType);
         }
 
-        ByteArrayInputStream inputStream = new ByteArrayInputStream(outputStream.toByteArray());
         return reader.readFrom(
                 type,
                 genericType,
                 ANNOTATIONS,
                 requestContext.getMediaType(),
                 requestContext.getStringHeaders(),
-                inputStream
+                buffer.toInputStream()
+        );
+    }
+
+    private @Nullable MessageBodyWriter<?> getMessageBodyWriter(ClientRequestContext requestContext) {
+        WriterKey key = new WriterKey(
+                requestContext.getEntityClass(),
+                requestContext.getEntityType(),
+                List.of(requestContext.getEntityAnnotations()),
+                withoutParameters(requestContext.getMediaType())
         );
+
+        MessageBodyWriter<?> writer = writers.get(key);
+        if (writer == null) {
+            writer = providers.getMessageBodyWriter(
+                    requestContext.getEntityClass(),
+                    requestContext.getEntityType(),
+                    requestContext.getEntityAnnotations(),
+                    requestContext.getMediaType()
+            );
+            if (writer != null) {
+                writers.put(key, writer);
+            }
+        }
+        return writer;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> @Nullable MessageBodyReader<T> getMessageBodyReader(Class<T> type, Type genericType, @Nullable MediaType mediaType) {
+        ReaderKey key = new ReaderKey(type, genericType, withoutParameters(mediaType));
+
+        MessageBodyReader<?> reader = readers.get(key);
+        if (reader == null) {
+            reader = providers.getMessageBodyReader(type, genericType, ANNOTATIONS, mediaType);
+            if (reader != null) {
+                readers.put(key, reader);
+            }
+        }
+        return (MessageBodyReader<T>) reader;
     }
+
+    // Providers are selected by type and subtype, parameters like the multipart boundary would only bloat the cache
+    private static @Nullable MediaType withoutParameters(@Nullable MediaType mediaType) {
+        if (mediaType == null || mediaType.getParameters().isEmpty()) {
+            return mediaType;
+        }
+        return new MediaType(mediaType.getType(), mediaType.getSubtype());
+    }
+
+    private record WriterKey(Class<?> entityClass, Type entityType, List<Annotation> annotations, @Nullable MediaType mediaType) {}
+
+    private record ReaderKey(Class<?> type, Type genericType, @Nullable MediaType mediaType) {}
 }
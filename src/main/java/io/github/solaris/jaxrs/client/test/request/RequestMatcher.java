@@ -24,4 +24,25 @@ public interface RequestMatcher {
      * @throws AssertionError If the request does not match
      */
     void match(ClientRequestContext request) throws IOException, AssertionError;
+
+    /**
+     * <p>Test whether the given {@link ClientRequestContext} matches, without failing on a mismatch.</p>
+     * <p>
+     * Used to select a matching expectation among multiple candidates.
+     * The default implementation delegates to {@link #match(ClientRequestContext)}, implementations should override it
+     * if they are able to determine a mismatch without constructing an {@link AssertionError}.
+     * </p>
+     *
+     * @param request The current request to test
+     * @return {@code true} if {@link #match(ClientRequestContext)} would succeed for the given request, {@code false} otherwise
+     * @throws IOException In case of an I/O error
+     */
+    default boolean test(ClientRequestContext request) throws IOException {
+        try {
+            match(request);
+            return true;
+        } catch (AssertionError e) {
+            return false;
+        }
+    }
 }
@@ -11,6 +11,7 @@ import java.net.URLDecoder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import javax.xml.xpath.XPathExpressionException;
@@ -18,6 +19,9 @@ import javax.xml.xpath.XPathExpressionException;
 import jakarta.ws.rs.core.MultivaluedHashMap;
 import jakarta.ws.rs.core.MultivaluedMap;
 
+import io.github.solaris.jaxrs.client.test.internal.MethodMatcher;
+import io.github.solaris.jaxrs.client.test.internal.UriMatcher;
+
 /**
  * Static factory methods for the built-in {@link RequestMatcher} implementations.
  */
@@ -41,7 +45,7 @@ public final class RequestMatchers {
      */
     public static RequestMatcher method(String httpMethod) {
         validateNotNull(httpMethod, "'httpMethod' must not be null.");
-        return request -> assertEqual("Unexpected Method.", httpMethod, request.getMethod());
+        return new MethodMatcher(httpMethod);
     }
 
     /**
@@ -51,7 +55,7 @@ public final class RequestMatchers {
      */
     public static RequestMatcher requestTo(String uri) {
         validateNotNull(uri, "'uri' must not be null.");
-        return request -> assertEqual("Unexpected Request.", URI.create(uri), request.getUri());
+        return new UriMatcher(URI.create(uri));
     }
 
     /**
@@ -61,7 +65,7 @@ public final class RequestMatchers {
      */
     public static RequestMatcher requestTo(URI uri) {
         validateNotNull(uri, "'uri' must not be null.");
-        return request -> assertEqual("Unexpected Request.", uri, request.getUri());
+        return new UriMatcher(uri);
     }
 
     /**
@@ -76,7 +80,10 @@ public final class RequestMatchers {
     public static RequestMatcher queryParam(String name, String... expectedValues) {
         validateNotNull(name, "'name' must not be null.");
         validateNotNull(expectedValues, "'expectedValues' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            List<String> actualValues = getQueryParams(request.getUri()).get(name);
+            return actualValues != null && startsWith(actualValues, expectedValues);
+        }, request -> {
             MultivaluedMap<String, String> queryParams = getQueryParams(request.getUri());
 
             String message = "Expected QueryParam <" + name + ">";
@@ -87,7 +94,7 @@ public final class RequestMatchers {
             for (int i = 0; i < expectedValues.length; i++) {
                 assertEqual("QueryParam [name=" + name + ", position=" + i + "]", expectedValues[i], queryParams.get(name).get(i));
             }
-        };
+        });
     }
 
     /**
@@ -97,12 +104,12 @@ public final class RequestMatchers {
      */
     public static RequestMatcher queryParamDoesNotExist(String name) {
         validateNotNull(name, "'name' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> !getQueryParams(request.getUri()).containsKey(name), request -> {
             List<String> queryParamsValues = getQueryParams(request.getUri()).get(name);
             if (queryParamsValues != null) {
                 throw new AssertionError("Expected QueryParam <" + name + "> to not exist, but it exists with values: " + queryParamsValues);
             }
-        };
+        });
     }
 
     /**
@@ -111,13 +118,13 @@ public final class RequestMatchers {
      * @param expectedCount The expected number of query parameters
      */
     public static RequestMatcher queryParamCount(int expectedCount) {
-        return request -> {
+        return new ProbingRequestMatcher(request -> getQueryParams(request.getUri()).size() == expectedCount, request -> {
             Set<String> queryParamNames = getQueryParams(request.getUri()).keySet();
             int actualSize = queryParamNames.size();
             if (expectedCount != actualSize) {
                 throw new AssertionError("Expected %s QueryParams but found %s: %s".formatted(expectedCount, actualSize, queryParamNames));
             }
-        };
+        });
     }
 
     /**
@@ -132,7 +139,10 @@ public final class RequestMatchers {
     public static RequestMatcher header(String name, String... expectedValues) {
         validateNotNull(name, "'name' must not be null.");
         validateNotNull(expectedValues, "'expectedValues' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> {
+            List<String> actualValues = request.getStringHeaders().get(name);
+            return actualValues != null && startsWith(actualValues, expectedValues);
+        }, request -> {
             List<String> actualValues = request.getStringHeaders().get(name);
 
             String message = "Expected header <" + name + ">";
@@ -143,7 +153,7 @@ public final class RequestMatchers {
             for (int i = 0; i < expectedValues.length; i++) {
                 assertEqual("Request header [name=" + name + ", position=" + i + "]", expectedValues[i], actualValues.get(i));
             }
-        };
+        });
     }
 
     /**
@@ -153,12 +163,12 @@ public final class RequestMatchers {
      */
     public static RequestMatcher headerDoesNotExist(String name) {
         validateNotNull(name, "'name' must not be null.");
-        return request -> {
+        return new ProbingRequestMatcher(request -> request.getHeaders().get(name) == null, request -> {
             List<Object> headerValues = request.getHeaders().get(name);
             if (headerValues != null) {
                 throw new AssertionError("Expected header <" + name + "> to not exist, but it exists with values: " + headerValues);
             }
-        };
+        });
     }
 
     /**
@@ -207,6 +217,18 @@ public final class RequestMatchers {
         return new XpathRequestMatchers(expression, namespaces, args);
     }
 
+    private static boolean startsWith(List<String> actualValues, String[] expectedValues) {
+        if (expectedValues.length > actualValues.size()) {
+            return false;
+        }
+        for (int i = 0; i < expectedValues.length; i++) {
+            if (!Objects.equals(expectedValues[i], actualValues.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static MultivaluedMap<String, String> getQueryParams(URI uri) {
         if (uri.getRawQuery() == null || uri.getRawQuery().isEmpty()) {
             return EMPTY_QUERY_PARAMS;
@@ -0,0 +1,63 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+// OutputStream that writes into a list of segments instead of a single growing array,
+// so neither growing the buffer nor reading it back through toInputStream copies the written bytes.
+final class SegmentedBuffer extends OutputStream {
+    private static final int INITIAL_SEGMENT_SIZE = 8 * 1024;
+    private static final int MAX_SEGMENT_SIZE = 1024 * 1024;
+
+    private final List<byte[]> segments = new ArrayList<>();
+    private byte[] current = new byte[0];
+    private int position;
+
+    @Override
+    public void write(int b) {
+        if (position == current.length) {
+            addSegment();
+        }
+        current[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        Objects.checkFromIndexSize(off, len, b.length);
+        while (len > 0) {
+            if (position == current.length) {
+                addSegment();
+            }
+
+            int count = Math.min(len, current.length - position);
+            System.arraycopy(b, off, current, position, count);
+            position += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    InputStream toInputStream() {
+        List<InputStream> streams = new ArrayList<>(segments.size());
+        for (int i = 0; i < segments.size(); i++) {
+            byte[] segment = segments.get(i);
+            int length = i == segments.size() - 1 ? position : segment.length;
+            streams.add(new ByteArrayInputStream(segment, 0, length));
+        }
+        return new SequenceInputStream(Collections.enumeration(streams));
+    }
+
+    // Each segment is twice the size of the previous one, up to MAX_SEGMENT_SIZE
+    private void addSegment() {
+        int size = current.length == 0 ? INITIAL_SEGMENT_SIZE : Math.min(current.length * 2, MAX_SEGMENT_SIZE);
+        current = new byte[size];
+        position = 0;
+        segments.add(current);
+    }
+}
@@ -0,0 +1,317 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+
+import com.jayway.jsonpath.PathNotFoundException;
+
+// Evaluates a definite JsonPath expression consisting only of property names and array indices, e.g. $.header.items[0].id,
+// while reading the JSON document. Only the matching value is buffered and reading stops as soon as it has been found.
+final class StreamingJsonPath {
+    private final String expression;
+    private final List<Object> segments;
+
+    private StreamingJsonPath(String expression, List<Object> segments) {
+        this.expression = expression;
+        this.segments = segments;
+    }
+
+    // Returns null if the expression contains anything other than property names and array indices
+    static @Nullable StreamingJsonPath compile(String expression) {
+        String path = expression.strip();
+        if (!path.startsWith("$")) {
+            return null;
+        }
+
+        List<Object> segments = new ArrayList<>();
+        int position = 1;
+        while (position < path.length()) {
+            char c = path.charAt(position);
+            if (c == '.') {
+                int end = position + 1;
+                while (end < path.length() && path.charAt(end) != '.' && path.charAt(end) != '[') {
+                    end++;
+                }
+
+                String name = path.substring(position + 1, end);
+                if (name.isEmpty() || name.contains("*") || name.contains("(")) {
+                    return null;
+                }
+                segments.add(name);
+                position = end;
+            } else if (c == '[') {
+                int end = path.indexOf(']', position);
+                if (end < 0) {
+                    return null;
+                }
+
+                String token = path.substring(position + 1, end).strip();
+                Object segment = parseBracketSegment(token);
+                if (segment == null) {
+                    return null;
+                }
+                segments.add(segment);
+                position = end + 1;
+            } else {
+                return null;
+            }
+        }
+
+        return new StreamingJsonPath(path, List.copyOf(segments));
+    }
+
+    private static @Nullable Object parseBracketSegment(String token) {
+        if (token.length() >= 2 && (token.charAt(0) == '\'' || token.charAt(0) == '"') && token.charAt(token.length() - 1) == token.charAt(0)) {
+            String name = token.substring(1, token.length() - 1);
+            if (name.indexOf('\'') >= 0 || name.indexOf('"') >= 0 || name.indexOf('\\') >= 0) {
+                return null;
+            }
+            return name;
+        }
+
+        if (token.isEmpty() || token.length() > 9) {
+            return null;
+        }
+        for (int i = 0; i < token.length(); i++) {
+            if (!Character.isDigit(token.charAt(i))) {
+                return null;
+            }
+        }
+        return Integer.parseInt(token);
+    }
+
+    // Returns the raw JSON of the value at the path or null if the document does not have the structure the path expects,
+    // in which case it must be evaluated regularly to fail with the same error.
+    // Throws a PathNotFoundException if an object along the path does not contain the expected property.
+    @Nullable String evaluate(Reader reader) throws IOException {
+        JsonScanner scanner = new JsonScanner(reader);
+        try {
+            for (Object segment : segments) {
+                if (segment instanceof String name) {
+                    if (scanner.peekValue() != '{') {
+                        return null;
+                    }
+                    if (!scanner.findProperty(name)) {
+                        throw new PathNotFoundException("No results for path: " + expression);
+                    }
+                } else {
+                    if (scanner.peekValue() != '[' || !scanner.findIndex((Integer) segment)) {
+                        return null;
+                    }
+                }
+            }
+            return scanner.readValue();
+        } catch (MalformedJsonException e) {
+            return null;
+        }
+    }
+
+    // Minimal pull scanner that navigates a JSON document without materializing the values it skips
+    private static final class JsonScanner {
+        private static final int NONE = -2;
+
+        private final Reader reader;
+        private int peeked = NONE;
+        private @Nullable StringBuilder capture;
+
+        private JsonScanner(Reader reader) {
+            this.reader = reader;
+        }
+
+        private int peek() throws IOException {
+            if (peeked == NONE) {
+                peeked = reader.read();
+            }
+            return peeked;
+        }
+
+        private int read() throws IOException {
+            int c = peek();
+            peeked = NONE;
+            if (c >= 0 && capture != null) {
+                capture.append((char) c);
+            }
+            return c;
+        }
+
+        private void expect(char expected) throws IOException, MalformedJsonException {
+            if (read() != expected) {
+                throw new MalformedJsonException();
+            }
+        }
+
+        private int peekValue() throws IOException {
+            while (Character.isWhitespace(peek())) {
+                read();
+            }
+            return peek();
+        }
+
+        private boolean findProperty(String name) throws IOException, MalformedJsonException {
+            expect('{');
+            if (peekValue() == '}') {
+                read();
+                return false;
+            }
+
+            while (true) {
+                peekValue();
+                String key = readString(true);
+                peekValue();
+                expect(':');
+                if (name.equals(key)) {
+                    peekValue();
+                    return true;
+                }
+
+                skipValue();
+                int c = peekValue();
+                read();
+                if (c == '}') {
+                    return false;
+                } else if (c != ',') {
+                    throw new MalformedJsonException();
+                }
+            }
+        }
+
+        private boolean findIndex(int index) throws IOException, MalformedJsonException {
+            expect('[');
+            if (peekValue() == ']') {
+                read();
+                return false;
+            }
+
+            for (int i = 0; ; i++) {
+                if (i == index) {
+                    peekValue();
+                    return true;
+                }
+
+                skipValue();
+                int c = peekValue();
+                read();
+                if (c == ']') {
+                    return false;
+                } else if (c != ',') {
+                    throw new MalformedJsonException();
+                }
+            }
+        }
+
+        private String readValue() throws IOException, MalformedJsonException {
+            peekValue();
+            capture = new StringBuilder();
+            skipValue();
+            String value = capture.toString();
+            capture = null;
+            return value;
+        }
+
+        private void skipValue() throws IOException, MalformedJsonException {
+            int c = peekValue();
+            if (c == '{') {
+                skipContainer('{', '}', true);
+            } else if (c == '[') {
+                skipContainer('[', ']', false);
+            } else if (c == '"') {
+                readString(false);
+            } else {
+                int length = 0;
+                while (isLiteralChar(peek())) {
+                    read();
+                    length++;
+                }
+                if (length == 0) {
+                    throw new MalformedJsonException();
+                }
+            }
+        }
+
+        private void skipContainer(char open, char close, boolean object) throws IOException, MalformedJsonException {
+            expect(open);
+            if (peekValue() == close) {
+                read();
+                return;
+            }
+
+            while (true) {
+                if (object) {
+                    peekValue();
+                    readString(false);
+                    peekValue();
+                    expect(':');
+                }
+
+                skipValue();
+                int c = peekValue();
+                read();
+                if (c == close) {
+                    return;
+                } else if (c != ',') {
+                    throw new MalformedJsonException();
+                }
+            }
+        }
+
+        private @Nullable String readString(boolean keep) throws IOException, MalformedJsonException {
+            expect('"');
+            StringBuilder builder = keep ? new StringBuilder() : null;
+            while (true) {
+                int c = read();
+                if (c < 0) {
+                    throw new MalformedJsonException();
+                } else if (c == '"') {
+                    return builder == null ? null : builder.toString();
+                } else if (c == '\\') {
+                    char unescaped = readEscaped();
+                    if (builder != null) {
+                        builder.append(unescaped);
+                    }
+                } else if (builder != null) {
+                    builder.append((char) c);
+                }
+            }
+        }
+
+        private char readEscaped() throws IOException, MalformedJsonException {
+            int c = read();
+            return switch (c) {
+                case '"', '\\', '/' -> (char) c;
+                case 'b' -> '\b';
+                case 'f' -> '\f';
+                case 'n' -> '\n';
+                case 'r' -> '\r';
+                case 't' -> '\t';
+                case 'u' -> {
+                    int codePoint = 0;
+                    for (int i = 0; i < 4; i++) {
+                        int digit = Character.digit(read(), 16);
+                        if (digit < 0) {
+                            throw new MalformedJsonException();
+                        }
+                        codePoint = codePoint * 16 + digit;
+                    }
+                    yield (char) codePoint;
+                }
+                default -> throw new MalformedJsonException();
+            };
+        }
+
+        private static boolean isLiteralChar(int c) {
+            return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.';
+        }
+    }
+
+    private static final class MalformedJsonException extends Exception {
+        private static final long serialVersionUID = 1L;
+
+        private MalformedJsonException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,287 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static javax.xml.stream.XMLStreamConstants.DTD;
+import static javax.xml.stream.XMLStreamConstants.END_ELEMENT;
+import static javax.xml.stream.XMLStreamConstants.START_ELEMENT;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import javax.xml.XMLConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.jspecify.annotations.Nullable;
+
+// Evaluates simple location paths like /envelope/body/item[@type='a'] or count(/envelope/body/item) in a single pass over a StAX reader.
+// Supported are absolute paths along the child axis, where each step is an element name or '*',
+// optionally followed by predicates that test for the presence or value of an attribute.
+final class StreamingXpath {
+    private final List<Step> steps;
+    private final boolean count;
+    private final boolean namespaceAware;
+
+    private StreamingXpath(List<Step> steps, boolean count, boolean namespaceAware) {
+        this.steps = steps;
+        this.count = count;
+        this.namespaceAware = namespaceAware;
+    }
+
+    // Returns null if the expression is not a supported location path
+    static @Nullable StreamingXpath compile(String expression, Map<String, String> namespaces) {
+        String path = expression.strip();
+        boolean count = path.startsWith("count(") && path.endsWith(")");
+        if (count) {
+            path = path.substring("count(".length(), path.length() - 1).strip();
+        }
+        if (!path.startsWith("/") || path.startsWith("//")) {
+            return null;
+        }
+
+        boolean namespaceAware = !namespaces.isEmpty();
+        List<Step> steps = new ArrayList<>();
+        int position = 0;
+        while (position < path.length()) {
+            if (path.charAt(position) != '/') {
+                return null;
+            }
+
+            int end = findStepEnd(path, position + 1);
+            if (end < 0) {
+                return null;
+            }
+
+            Step step = parseStep(path.substring(position + 1, end), namespaces, namespaceAware);
+            if (step == null) {
+                return null;
+            }
+            steps.add(step);
+            position = end;
+        }
+
+        return steps.isEmpty() ? null : new StreamingXpath(List.copyOf(steps), count, namespaceAware);
+    }
+
+    private static int findStepEnd(String path, int start) {
+        char quote = 0;
+        int brackets = 0;
+        for (int i = start; i < path.length(); i++) {
+            char c = path.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == '[') {
+                brackets++;
+            } else if (c == ']') {
+                brackets--;
+            } else if (c == '/' && brackets == 0) {
+                return i;
+            }
+        }
+        return quote == 0 && brackets == 0 ? path.length() : -1;
+    }
+
+    private static @Nullable Step parseStep(String step, Map<String, String> namespaces, boolean namespaceAware) {
+        int predicateStart = step.indexOf('[');
+        String nameTest = (predicateStart < 0 ? step : step.substring(0, predicateStart)).strip();
+
+        QName name = null;
+        if (!"*".equals(nameTest)) {
+            name = parseQName(nameTest, namespaces, namespaceAware);
+            if (name == null) {
+                return null;
+            }
+        }
+
+        List<Predicate> predicates = new ArrayList<>();
+        int position = predicateStart;
+        while (position >= 0 && position < step.length()) {
+            if (step.charAt(position) != '[') {
+                return null;
+            }
+
+            int end = findPredicateEnd(step, position + 1);
+            if (end < 0) {
+                return null;
+            }
+
+            Predicate predicate = parsePredicate(step.substring(position + 1, end).strip(), namespaces, namespaceAware);
+            if (predicate == null) {
+                return null;
+            }
+            predicates.add(predicate);
+            position = end + 1;
+            while (position < step.length() && Character.isWhitespace(step.charAt(position))) {
+                position++;
+            }
+        }
+
+        return new Step(name, List.copyOf(predicates));
+    }
+
+    private static int findPredicateEnd(String step, int start) {
+        char quote = 0;
+        for (int i = start; i < step.length(); i++) {
+            char c = step.charAt(i);
+            if (quote != 0) {
+                if (c == quote) {
+                    quote = 0;
+                }
+            } else if (c == '\'' || c == '"') {
+                quote = c;
+            } else if (c == ']') {
+                return i;
+            } else if (c == '[') {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    private static @Nullable Predicate parsePredicate(String predicate, Map<String, String> namespaces, boolean namespaceAware) {
+        if (!predicate.startsWith("@")) {
+            return null;
+        }
+
+        int equals = predicate.indexOf('=');
+        String attribute = (equals < 0 ? predicate.substring(1) : predicate.substring(1, equals)).strip();
+        QName name = parseQName(attribute, namespaces, namespaceAware);
+        if (name == null || XMLConstants.XMLNS_ATTRIBUTE.equals(attribute)) {
+            return null;
+        }
+        if (equals < 0) {
+            return new Predicate(name, null);
+        }
+
+        String literal = predicate.substring(equals + 1).strip();
+        if (literal.length() < 2 || (literal.charAt(0) != '\'' && literal.charAt(0) != '"')
+                || literal.charAt(literal.length() - 1) != literal.charAt(0)
+                || literal.indexOf(literal.charAt(0), 1) != literal.length() - 1) {
+            return null;
+        }
+        return new Predicate(name, literal.substring(1, literal.length() - 1));
+    }
+
+    // Unprefixed names are never in a namespace, prefixed names are only supported when evaluating namespace-aware
+    private static @Nullable QName parseQName(String name, Map<String, String> namespaces, boolean namespaceAware) {
+        int colon = name.indexOf(':');
+        String localName = colon < 0 ? name : name.substring(colon + 1);
+        if (!isNcName(localName)) {
+            return null;
+        }
+        if (colon < 0) {
+            return new QName(XMLConstants.NULL_NS_URI, localName);
+        }
+
+        String prefix = name.substring(0, colon);
+        if (!namespaceAware || (!prefix.isEmpty() && !isNcName(prefix))) {
+            return null;
+        }
+
+        String namespaceUri = XMLConstants.XML_NS_PREFIX.equals(prefix) ? XMLConstants.XML_NS_URI : namespaces.get(prefix);
+        return namespaceUri == null ? null : new QName(namespaceUri, localName);
+    }
+
+    private static boolean isNcName(String name) {
+        if (name.isEmpty() || !(Character.isLetter(name.charAt(0)) || name.charAt(0) == '_')) {
+            return false;
+        }
+        for (int i = 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (!(Character.isLetterOrDigit(c) || c == '_' || c == '-' || c == '.')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean isCount() {
+        return count;
+    }
+
+    // Returns the number of matching elements, counting at most 'limit' matches,
+    // or null if the document contains constructs that must be evaluated regularly, e.g. a DTD.
+    // The rest of the document is still read after the limit is reached, so a malformed document never matches.
+    @Nullable Integer countMatches(XMLStreamReader reader, int limit) throws XMLStreamException {
+        int depth = 0;
+        int matchedDepth = 0;
+        int matches = 0;
+        while (reader.hasNext()) {
+            int event = reader.next();
+            if (event == DTD) {
+                return null;
+            } else if (event == START_ELEMENT) {
+                depth++;
+                if (matches < limit && matchedDepth == depth - 1 && depth <= steps.size()) {
+                    if (!namespaceAware && hasPrefixedNames(reader)) {
+                        return null;
+                    }
+                    if (steps.get(depth - 1).matches(reader)) {
+                        matchedDepth = depth;
+                        if (depth == steps.size()) {
+                            matches++;
+                        }
+                    }
+                }
+            } else if (event == END_ELEMENT) {
+                if (matchedDepth == depth) {
+                    matchedDepth--;
+                }
+                depth--;
+            }
+        }
+        return matches;
+    }
+
+    // Without namespace awareness, prefixed names are matched differently by the DOM based evaluation
+    private static boolean hasPrefixedNames(XMLStreamReader reader) {
+        if (reader.getLocalName().indexOf(':') >= 0 || !Objects.requireNonNullElse(reader.getPrefix(), "").isEmpty()) {
+            return true;
+        }
+        for (int i = 0; i < reader.getAttributeCount(); i++) {
+            if (reader.getAttributeLocalName(i).indexOf(':') >= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record QName(String namespaceUri, String localName) {
+
+        private boolean matches(@Nullable String actualNamespaceUri, String actualLocalName) {
+            return localName.equals(actualLocalName) && namespaceUri.equals(Objects.requireNonNullElse(actualNamespaceUri, ""));
+        }
+    }
+
+    private record Predicate(QName attribute, @Nullable String value) {
+
+        private boolean matches(XMLStreamReader reader) {
+            for (int i = 0; i < reader.getAttributeCount(); i++) {
+                if (attribute.matches(reader.getAttributeNamespace(i), reader.getAttributeLocalName(i))) {
+                    return value == null || value.equals(reader.getAttributeValue(i));
+                }
+            }
+            return false;
+        }
+    }
+
+    private record Step(@Nullable QName name, List<Predicate> predicates) {
+
+        private boolean matches(XMLStreamReader reader) {
+            if (name != null && !name.matches(reader.getNamespaceURI(), reader.getLocalName())) {
+                return false;
+            }
+            for (Predicate predicate : predicates) {
+                if (!predicate.matches(reader)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
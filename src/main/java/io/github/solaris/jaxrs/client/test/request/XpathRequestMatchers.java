@@ -6,6 +6,8 @@ import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertEqua
 import static io.github.solaris.jaxrs.client.test.internal.Assertions.assertTrue;
 import static java.nio.charset.StandardCharsets.UTF_8;
 
+import java.io.IOException;
+import java.io.Reader;
 import java.io.StringReader;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -15,7 +17,12 @@ import java.util.Set;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpression;
@@ -30,6 +37,7 @@ import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.w3c.dom.NodeList;
 import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
 
 /**
  * Factory for {@link RequestMatcher} implementations that use an {@link XPath} expression.
@@ -40,21 +48,44 @@ import org.xml.sax.InputSource;
  */
 public final class XpathRequestMatchers {
     private final String expression;
-    private final XPathExpression xPathExpression;
-    private final boolean namespaceAware;
+    private final DocumentParser documentParser;
+    // XPathExpressions are not thread-safe, so each evaluation borrows its own
+    private final ObjectPool<XPathExpression> xPathExpressions;
+    private final Map<String, String> namespaces;
+    private final @Nullable StreamingXpath streamingXpath;
 
     XpathRequestMatchers(String expression, Map<String, String> namespaces, Object... args) throws XPathExpressionException {
         validateNotBlank(expression, "XPath expression must not be null or blank.");
         validateNotNull(namespaces, "'namespaces' must not be null.");
         validateNotNull(args, "'args' must not be null.");
         this.expression = expression.formatted(args);
-        this.xPathExpression = compile(this.expression, namespaces);
-        this.namespaceAware = !namespaces.isEmpty();
-    }
+        this.documentParser = namespaces.isEmpty() ? DocumentParser.DEFAULT : DocumentParser.NAMESPACE_AWARE;
 
-    private static XPathExpression compile(String expression, Map<String, String> namespaces) throws XPathExpressionException {
         SimpleNamespaceContext namespaceContext = new SimpleNamespaceContext();
         namespaceContext.setBindings(namespaces);
+        XPathExpression compiled = compile(this.expression, namespaceContext);
+        this.xPathExpressions = new ObjectPool<>(() -> {
+            try {
+                return compile(this.expression, namespaceContext);
+            } catch (XPathExpressionException e) {
+                // Unreachable, the expression was compiled successfully before
+                throw new IllegalStateException(e);
+            }
+        });
+        this.xPathExpressions.release(compiled);
+        this.namespaces = Map.copyOf(namespaces);
+        this.streamingXpath = null;
+    }
+
+    private XpathRequestMatchers(XpathRequestMatchers matchers, @Nullable StreamingXpath streamingXpath) {
+        this.expression = matchers.expression;
+        this.documentParser = matchers.documentParser;
+        this.xPathExpressions = matchers.xPathExpressions;
+        this.namespaces = matchers.namespaces;
+        this.streamingXpath = streamingXpath;
+    }
+
+    private static XPathExpression compile(String expression, NamespaceContext namespaceContext) throws XPathExpressionException {
         XPath xPath = XPathFactory.newInstance().newXPath();
         xPath.setNamespaceContext(namespaceContext);
         return xPath.compile(expression);
@@ -65,42 +96,107 @@ public final class XpathRequestMatchers {
         EntityConverter converter = EntityConverter.fromRequestContext(requestContext);
         String xmlString = converter.convertEntity(requestContext, String.class);
 
-        InputSource inputSource = new InputSource(new StringReader(xmlString));
-        inputSource.setEncoding(UTF_8.name());
+        // The parsed document is cached for the current request, so it is shared by all XPath matchers
+        Document document = EntityConversionCache.computeIfAbsent(requestContext, documentParser, () -> documentParser.parse(xmlString));
+
+        XPathExpression xPathExpression = xPathExpressions.borrow();
+        try {
+            // XPathExpression::evaluateExpression only supports javax.xml.xpath.XPathNodes for NODESET
+            if (NodeList.class.equals(targetType)) {
+                return (T) xPathExpression.evaluate(document, XPathConstants.NODESET);
+            }
+
+            return xPathExpression.evaluateExpression(document, targetType);
+        } finally {
+            xPathExpressions.release(xPathExpression);
+        }
+    }
+
+    // Returns null if the expression or the request entity must be evaluated regularly
+    private @Nullable Integer countStreaming(ClientRequestContext requestContext, boolean countFunction, int limit) throws IOException {
+        if (streamingXpath == null || streamingXpath.isCount() != countFunction) {
+            return null;
+        }
+
+        try (Reader reader = EntityConverter.getEntityReader(requestContext)) {
+            XMLStreamReader streamReader = documentParser.createStreamReader(reader);
+            try {
+                return streamingXpath.countMatches(streamReader, limit);
+            } finally {
+                streamReader.close();
+            }
+        } catch (XMLStreamException e) {
+            // Malformed documents are parsed regularly to fail with the same error
+            return null;
+        }
+    }
 
-        DocumentBuilderFactory factory = DocumentBuilderFactory.newDefaultInstance();
-        factory.setXIncludeAware(false);
-        factory.setNamespaceAware(namespaceAware);
-        factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
-        factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-        Document document = factory.newDocumentBuilder().parse(inputSource);
+    private boolean exists(ClientRequestContext requestContext) throws Exception {
+        Integer count = countStreaming(requestContext, false, 1);
+        return count != null ? count > 0 : evaluate(requestContext, Node.class) != null;
+    }
 
-        // XPathExpression::evaluateExpression only supports javax.xml.xpath.XPathNodes for NODESET
-        if (NodeList.class.equals(targetType)) {
-            return (T) xPathExpression.evaluate(document, XPathConstants.NODESET);
+    private int nodeCount(ClientRequestContext requestContext) throws Exception {
+        Integer count = countStreaming(requestContext, false, Integer.MAX_VALUE);
+        if (count != null) {
+            return count;
         }
 
-        return xPathExpression.evaluateExpression(document, targetType);
+        XPathNodes nodes = evaluate(requestContext, XPathNodes.class);
+        return nodes == null ? 0 : nodes.size();
+    }
+
+    private @Nullable Double number(ClientRequestContext requestContext) throws Exception {
+        Integer count = countStreaming(requestContext, true, Integer.MAX_VALUE);
+        return count != null ? Double.valueOf(count) : evaluate(requestContext, Double.class);
+    }
+
+    // Failures to evaluate the expression are mismatches, just like the AssertionErrors they are wrapped in by XpathRequestMatcher
+    private static RequestMatcher probing(XpathProbe probe, XpathRequestMatcher matcher) {
+        return new ProbingRequestMatcher(request -> {
+            try {
+                return probe.test(request);
+            } catch (Exception e) {
+                return false;
+            }
+        }, matcher);
+    }
+
+    /**
+     * Evaluate the XPath expression while reading the request entity, instead of parsing it into a DOM first.
+     * <p>
+     * The request entity is read in a single pass without building a DOM.
+     * Request entities of type {@link String}, {@code byte[]} and {@link java.io.InputStream InputStream} are read directly,
+     * any other entity is serialized entirely before it is read.
+     * The entire document is always read, so malformed documents are reported just like by the regular evaluation.
+     * </p>
+     * <p>
+     * Only absolute location paths along the child axis whose steps consist of an element name or {@code *} and optional attribute predicates,
+     * e.g. {@code /envelope/body/item[@type='order']}, are evaluated while streaming by {@link #exists()}, {@link #doesNotExist()} and {@link #nodeCount(int)},
+     * as well as {@code count(...)} of such a path by {@link #number(Double)}.
+     * Any other expression or matcher, or a request entity containing a DTD, is evaluated regularly.
+     * </p>
+     * <h4>Note:</h4>
+     * Request entities of type {@link java.io.InputStream InputStream} are buffered while they are read, so they can be read again by further matchers.
+     *
+     * @return {@code XpathRequestMatchers} that evaluate the expression while streaming the request entity
+     */
+    public XpathRequestMatchers streaming() {
+        return new XpathRequestMatchers(this, StreamingXpath.compile(expression, namespaces));
     }
 
     /**
      * Assert that a value exists at the given XPath.
      */
     public RequestMatcher exists() {
-        return (XpathRequestMatcher) request -> {
-            Node node = evaluate(request, Node.class);
-            assertTrue("XPath " + expression + " does not exist", node != null);
-        };
+        return probing(this::exists, request -> assertTrue("XPath " + expression + " does not exist", exists(request)));
     }
 
     /**
      * Assert that no value exists at the given XPath.
      */
     public RequestMatcher doesNotExist() {
-        return (XpathRequestMatcher) request -> {
-            Node node = evaluate(request, Node.class);
-            assertTrue("XPath " + expression + " does exist", node == null);
-        };
+        return probing(request -> !exists(request), request -> assertTrue("XPath " + expression + " does exist", !exists(request)));
     }
 
     /**
@@ -109,11 +205,9 @@ public final class XpathRequestMatchers {
      * @param expectedCount The expected amount of nodes
      */
     public RequestMatcher nodeCount(int expectedCount) {
-        return (XpathRequestMatcher) request -> {
-            XPathNodes nodes = evaluate(request, XPathNodes.class);
-            int actualCount = nodes == null ? 0 : nodes.size();
-            assertEqual("NodeCount for XPath " + expression, expectedCount, actualCount);
-        };
+        return probing(
+                request -> nodeCount(request) == expectedCount,
+                request -> assertEqual("NodeCount for XPath " + expression, expectedCount, nodeCount(request)));
     }
 
     /**
@@ -123,10 +217,9 @@ public final class XpathRequestMatchers {
      */
     public RequestMatcher string(String expectedString) {
         validateNotNull(expectedString, "'expectedString' must not be null.");
-        return (XpathRequestMatcher) request -> {
-            String actualString = evaluate(request, String.class);
-            assertEqual("XPath " + expression, expectedString, actualString);
-        };
+        return probing(
+                request -> expectedString.equals(evaluate(request, String.class)),
+                request -> assertEqual("XPath " + expression, expectedString, evaluate(request, String.class)));
     }
 
     /**
@@ -136,10 +229,9 @@ public final class XpathRequestMatchers {
      */
     public RequestMatcher number(Double expectedNumber) {
         validateNotNull(expectedNumber, "'expectedNumber' must not be null.");
-        return (XpathRequestMatcher) request -> {
-            Double actualNumber = evaluate(request, Double.class);
-            assertEqual("XPath " + expression, expectedNumber, actualNumber);
-        };
+        return probing(
+                request -> expectedNumber.equals(number(request)),
+                request -> assertEqual("XPath " + expression, expectedNumber, number(request)));
     }
 
     /**
@@ -148,10 +240,9 @@ public final class XpathRequestMatchers {
      * @param expectedBoolean The expected boolean value
      */
     public RequestMatcher booleanValue(boolean expectedBoolean) {
-        return (XpathRequestMatcher) request -> {
-            Boolean actualBoolean = evaluate(request, Boolean.class);
-            assertEqual("XPath " + expression, expectedBoolean, actualBoolean);
-        };
+        return probing(
+                request -> Boolean.valueOf(expectedBoolean).equals(evaluate(request, Boolean.class)),
+                request -> assertEqual("XPath " + expression, expectedBoolean, evaluate(request, Boolean.class)));
     }
 
     /**
@@ -174,6 +265,64 @@ public final class XpathRequestMatchers {
         return (XpathRequestMatcher) request -> valueAssertion.accept(evaluate(request, targetType));
     }
 
+    // Pools DocumentBuilders and XMLInputFactories, as neither is guaranteed to be thread-safe
+    private enum DocumentParser {
+        DEFAULT(false),
+        NAMESPACE_AWARE(true);
+
+        private final ObjectPool<DocumentBuilder> documentBuilders;
+        private final ObjectPool<XMLInputFactory> inputFactories;
+
+        DocumentParser(boolean namespaceAware) {
+            this.documentBuilders = new ObjectPool<>(() -> createDocumentBuilder(namespaceAware));
+            this.inputFactories = new ObjectPool<>(() -> createInputFactory(namespaceAware));
+        }
+
+        private XMLStreamReader createStreamReader(Reader reader) throws XMLStreamException {
+            XMLInputFactory inputFactory = inputFactories.borrow();
+            try {
+                return inputFactory.createXMLStreamReader(reader);
+            } finally {
+                inputFactories.release(inputFactory);
+            }
+        }
+
+        private Document parse(String xmlString) throws IOException, SAXException {
+            InputSource inputSource = new InputSource(new StringReader(xmlString));
+            inputSource.setEncoding(UTF_8.name());
+
+            DocumentBuilder builder = documentBuilders.borrow();
+            try {
+                return builder.parse(inputSource);
+            } finally {
+                builder.reset();
+                documentBuilders.release(builder);
+            }
+        }
+
+        private static DocumentBuilder createDocumentBuilder(boolean namespaceAware) {
+            try {
+                DocumentBuilderFactory factory = DocumentBuilderFactory.newDefaultInstance();
+                factory.setXIncludeAware(false);
+                factory.setNamespaceAware(namespaceAware);
+                factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+                factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+                return factory.newDocumentBuilder();
+            } catch (ParserConfigurationException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // DTDs are neither processed nor expanded, documents containing one are evaluated regularly
+        private static XMLInputFactory createInputFactory(boolean namespaceAware) {
+            XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+            factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, namespaceAware);
+            factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+            factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+            return factory;
+        }
+    }
+
     @FunctionalInterface
     private interface XpathRequestMatcher extends RequestMatcher {
 
@@ -189,6 +338,11 @@ public final class XpathRequestMatchers {
         void matchThrowing(ClientRequestContext requestContext) throws Exception;
     }
 
+    @FunctionalInterface
+    private interface XpathProbe {
+        boolean test(ClientRequestContext requestContext) throws Exception;
+    }
+
     /**
      * <p>Copied from org.springframework.util.xml.SimpleNamespaceContext</p>
      * <p>
@@ -0,0 +1,85 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.util.Locale;
+
+import org.jspecify.annotations.Nullable;
+
+// A single byte range of a Range header as specified by RFC 9110, resolved against the length of the content.
+// Multiple ranges are not supported, requests for them are answered with the entire content, which RFC 9110 permits.
+record ByteRange(long first, long last) {
+    static final String RANGE = "Range";
+    static final String ACCEPT_RANGES = "Accept-Ranges";
+    static final String CONTENT_RANGE = "Content-Range";
+
+    private static final String BYTES_UNIT = "bytes=";
+
+    // Marks a syntactically valid range that lies beyond the end of the content
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+
+    // Returns null if the header is malformed or requests multiple ranges, in which case the header must be ignored
+    static @Nullable ByteRange parse(String header, long length) {
+        String value = header.strip();
+        if (!value.toLowerCase(Locale.ROOT).startsWith(BYTES_UNIT) || value.indexOf(',') >= 0) {
+            return null;
+        }
+
+        String rangeSpec = value.substring(BYTES_UNIT.length()).strip();
+        int dash = rangeSpec.indexOf('-');
+        if (dash < 0) {
+            return null;
+        }
+
+        String first = rangeSpec.substring(0, dash).strip();
+        String last = rangeSpec.substring(dash + 1).strip();
+        if (first.isEmpty()) {
+            Long suffixLength = parseNumber(last);
+            if (suffixLength == null) {
+                return null;
+            }
+            if (suffixLength == 0 || length == 0) {
+                return UNSATISFIABLE;
+            }
+            return new ByteRange(Math.max(0, length - suffixLength), length - 1);
+        }
+
+        Long firstPosition = parseNumber(first);
+        Long lastPosition = last.isEmpty() ? Long.valueOf(Long.MAX_VALUE) : parseNumber(last);
+        if (firstPosition == null || lastPosition == null || lastPosition < firstPosition) {
+            return null;
+        }
+        if (firstPosition >= length) {
+            return UNSATISFIABLE;
+        }
+        return new ByteRange(firstPosition, Math.min(lastPosition, length - 1));
+    }
+
+    private static @Nullable Long parseNumber(String number) {
+        if (number.isEmpty()) {
+            return null;
+        }
+        for (int i = 0; i < number.length(); i++) {
+            char c = number.charAt(i);
+            if (c < '0' || c > '9') {
+                return null;
+            }
+        }
+
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException e) {
+            // Larger than any content this library could serve
+            return Long.MAX_VALUE;
+        }
+    }
+
+    long length() {
+        return last - first + 1;
+    }
+
+    String toContentRange(long contentLength) {
+        if (this == UNSATISFIABLE) {
+            return "bytes */" + contentLength;
+        }
+        return "bytes " + first + '-' + last + '/' + contentLength;
+    }
+}
@@ -0,0 +1,130 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * <p>A {@link ResponseCreator} that limits how many requests another {@code ResponseCreator} handles concurrently.</p>
+ * <p>
+ * A request is in flight while its response is being created, including any delay of the delegate and the
+ * {@linkplain #holdFor(Duration) hold time}, but not while the client reads the response.
+ * Requests beyond the limit are answered with status code 503
+ * ({@link jakarta.ws.rs.core.Response.Status#SERVICE_UNAVAILABLE SERVICE_UNAVAILABLE}).
+ * The highest amount of concurrent requests is recorded, including rejected ones,
+ * so tests can verify that a client never exceeds its own limit.
+ * </p>
+ * <pre><code>
+ * ConcurrencyLimitingResponseCreator bulkhead = MockResponseCreators.withConcurrencyLimit(withSuccess(), 4)
+ *     .holdFor(Duration.ofMillis(50));
+ * server.expect(min(1), requestTo("/hello")).andRespond(bulkhead);
+ *
+ * // exercise the client
+ *
+ * assertThat(bulkhead.peakConcurrency()).isLessThanOrEqualTo(4);
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withConcurrencyLimit(ResponseCreator, int)
+ */
+public final class ConcurrencyLimitingResponseCreator implements ResponseCreator {
+    private final ResponseCreator responseCreator;
+    private final int maxConcurrentRequests;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger peakConcurrency = new AtomicInteger();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    private volatile Duration holdTime = Duration.ZERO;
+    private volatile MockClock clock = MockClock.realTime();
+
+    ConcurrencyLimitingResponseCreator(ResponseCreator responseCreator, int maxConcurrentRequests) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        if (maxConcurrentRequests < 1) {
+            throw new IllegalArgumentException("'maxConcurrentRequests' must be >= 1");
+        }
+        this.responseCreator = responseCreator;
+        this.maxConcurrentRequests = maxConcurrentRequests;
+    }
+
+    /**
+     * Keep every accepted request in flight for the given {@link Duration} before delegating it.
+     *
+     * @param holdTime How long each accepted request occupies its slot
+     * @see #clock(MockClock)
+     */
+    public ConcurrencyLimitingResponseCreator holdFor(Duration holdTime) {
+        validateNotNull(holdTime, "'holdTime' must not be null.");
+        if (holdTime.isNegative()) {
+            throw new IllegalArgumentException("'holdTime' must not be negative");
+        }
+        this.holdTime = holdTime;
+        return this;
+    }
+
+    /**
+     * Set the {@link MockClock} to hold requests on. Defaults to {@link MockClock#realTime()}.
+     */
+    public ConcurrencyLimitingResponseCreator clock(MockClock clock) {
+        validateNotNull(clock, "'clock' must not be null.");
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * The amount of requests currently in flight.
+     */
+    public int inFlightRequests() {
+        return inFlight.get();
+    }
+
+    /**
+     * The highest amount of requests that were in flight at the same time, including rejected requests.
+     */
+    public int peakConcurrency() {
+        return peakConcurrency.get();
+    }
+
+    /**
+     * The amount of requests that were answered with status code 503 so far.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    @Override
+    public Response createResponse(ClientRequestContext request) throws IOException {
+        int concurrency = inFlight.incrementAndGet();
+        try {
+            peakConcurrency.accumulateAndGet(concurrency, Math::max);
+            if (concurrency > maxConcurrentRequests) {
+                rejectedRequests.incrementAndGet();
+                return MockResponseCreators.withServiceUnavailable().createResponse(request);
+            }
+
+            Duration currentHoldTime = holdTime;
+            if (!currentHoldTime.isZero()) {
+                Delays.sleep(clock, currentHoldTime);
+            }
+            return responseCreator.createResponse(request);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrencyLimitingResponseCreator{"
+                + "maxConcurrentRequests=" + maxConcurrentRequests
+                + ", holdTime=" + holdTime
+                + ", inFlightRequests=" + inFlight
+                + ", peakConcurrency=" + peakConcurrency
+                + ", rejectedRequests=" + rejectedRequests
+                + '}';
+    }
+}
@@ -0,0 +1,20 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.InterruptedIOException;
+import java.time.Duration;
+
+// Sleeps on a MockClock while creating or reading a response, where an interruption has to surface as an IOException
+final class Delays {
+    private Delays() {}
+
+    static void sleep(MockClock clock, Duration duration) throws InterruptedIOException {
+        try {
+            clock.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            InterruptedIOException exception = new InterruptedIOException("Interrupted while delaying the response.");
+            exception.initCause(e);
+            throw exception;
+        }
+    }
+}
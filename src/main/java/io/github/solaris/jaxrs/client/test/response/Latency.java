@@ -0,0 +1,115 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.time.Duration;
+import java.util.Random;
+import java.util.function.Supplier;
+
+/**
+ * A type representing the delay of a mock response, either fixed or sampled from a distribution.
+ *
+ * @see MockResponseCreator#delay(Latency)
+ */
+public final class Latency {
+    // Quantile of the standard normal distribution at 0.99
+    private static final double Z_99 = 2.3263478740408408;
+
+    private final Supplier<Duration> sampler;
+    private final String description;
+
+    private Latency(Supplier<Duration> sampler, String description) {
+        this.sampler = sampler;
+        this.description = description;
+    }
+
+    /**
+     * Always the given {@link Duration}.
+     */
+    public static Latency fixed(Duration duration) {
+        validateNonNegative(duration, "duration");
+        return new Latency(() -> duration, "fixed(" + duration + ")");
+    }
+
+    /**
+     * Uniformly distributed between {@code min} (inclusive) and {@code max} (exclusive).
+     */
+    public static Latency uniform(Duration min, Duration max) {
+        return uniform(min, max, new Random());
+    }
+
+    /**
+     * Uniformly distributed between {@code min} (inclusive) and {@code max} (exclusive), using the given seed for repeatable samples.
+     */
+    public static Latency uniform(Duration min, Duration max, long seed) {
+        return uniform(min, max, new Random(seed));
+    }
+
+    private static Latency uniform(Duration min, Duration max, Random random) {
+        validateNonNegative(min, "min");
+        validateNonNegative(max, "max");
+        if (max.compareTo(min) < 0) {
+            throw new IllegalArgumentException("'max' must be >= 'min'");
+        }
+
+        long minNanos = min.toNanos();
+        long rangeNanos = max.toNanos() - minNanos;
+        return new Latency(
+                () -> Duration.ofNanos(rangeNanos == 0 ? minNanos : minNanos + (long) (random.nextDouble() * rangeNanos)),
+                "uniform(" + min + ", " + max + ")"
+        );
+    }
+
+    /**
+     * Log-normally distributed with the given median ({@code p50}) and 99<sup>th</sup> percentile ({@code p99}),
+     * resembling the long tail of real response times.
+     */
+    public static Latency percentiles(Duration p50, Duration p99) {
+        return percentiles(p50, p99, new Random());
+    }
+
+    /**
+     * Log-normally distributed with the given median ({@code p50}) and 99<sup>th</sup> percentile ({@code p99}),
+     * using the given seed for repeatable samples.
+     */
+    public static Latency percentiles(Duration p50, Duration p99, long seed) {
+        return percentiles(p50, p99, new Random(seed));
+    }
+
+    private static Latency percentiles(Duration p50, Duration p99, Random random) {
+        validateNonNegative(p50, "p50");
+        validateNonNegative(p99, "p99");
+        if (p50.isZero()) {
+            throw new IllegalArgumentException("'p50' must be > 0");
+        }
+        if (p99.compareTo(p50) < 0) {
+            throw new IllegalArgumentException("'p99' must be >= 'p50'");
+        }
+
+        double mu = Math.log(p50.toNanos());
+        double sigma = (Math.log(p99.toNanos()) - mu) / Z_99;
+        return new Latency(
+                () -> Duration.ofNanos((long) Math.min(Math.exp(mu + sigma * random.nextGaussian()), Long.MAX_VALUE)),
+                "percentiles(p50=" + p50 + ", p99=" + p99 + ")"
+        );
+    }
+
+    private static void validateNonNegative(Duration duration, String name) {
+        validateNotNull(duration, "'" + name + "' must not be null.");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("'" + name + "' must not be negative");
+        }
+    }
+
+    /**
+     * Obtain the next delay.
+     */
+    public Duration next() {
+        return sampler.get();
+    }
+
+    @Override
+    public String toString() {
+        return "Latency{" + description + '}';
+    }
+}
@@ -0,0 +1,118 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static java.nio.file.StandardOpenOption.READ;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import io.github.solaris.jaxrs.client.test.internal.ByteBufferInputStream;
+
+// StreamingBody over the content of a file or classpath resource, which is loaded once per JVM and shared by all responses.
+// Files are memory-mapped and remapped once their size or modification time changes,
+// resources that are not files, e.g. inside a JAR, are read onto the heap.
+// As the content is held in a single ByteBuffer, it may be sliced to serve Range requests.
+final class MappedBody implements StreamingBody {
+    private static final Map<Path, MappedFile> FILES = new ConcurrentHashMap<>();
+    private static final Map<String, ByteBuffer> RESOURCES = new ConcurrentHashMap<>();
+
+    private final ByteBuffer content;
+    private final String source;
+
+    private MappedBody(ByteBuffer content, String source) {
+        this.content = content;
+        this.source = source;
+    }
+
+    static MappedBody ofFile(Path file) throws IOException {
+        Path realPath = file.toRealPath();
+        BasicFileAttributes attributes = Files.readAttributes(realPath, BasicFileAttributes.class);
+        if (!attributes.isRegularFile()) {
+            throw new IllegalArgumentException("'" + file + "' is not a regular file");
+        }
+        if (attributes.size() > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("'" + file + "' must not be larger than " + Integer.MAX_VALUE + " bytes");
+        }
+
+        MappedFile mappedFile = FILES.get(realPath);
+        if (mappedFile == null || !mappedFile.isCurrent(attributes)) {
+            mappedFile = new MappedFile(map(realPath), attributes.size(), attributes.lastModifiedTime());
+            FILES.put(realPath, mappedFile);
+        }
+        return new MappedBody(mappedFile.content(), realPath.toString());
+    }
+
+    private static ByteBuffer map(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, READ)) {
+            // The mapping stays valid after the channel is closed
+            return channel.map(MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    static MappedBody ofClasspathResource(String resource) throws IOException {
+        String name = resource.startsWith("/") ? resource.substring(1) : resource;
+        URL url = getClassLoader().getResource(name);
+        if (url == null) {
+            throw new IllegalArgumentException("Classpath resource '" + resource + "' does not exist");
+        }
+
+        if ("file".equals(url.getProtocol())) {
+            try {
+                return ofFile(Path.of(url.toURI()));
+            } catch (URISyntaxException e) {
+                // Not representable as a Path, read it like any other resource instead
+            }
+        }
+
+        ByteBuffer content = RESOURCES.get(url.toString());
+        if (content == null) {
+            try (InputStream inputStream = url.openStream()) {
+                content = ByteBuffer.wrap(inputStream.readAllBytes()).asReadOnlyBuffer();
+            }
+            RESOURCES.put(url.toString(), content);
+        }
+        return new MappedBody(content, url.toString());
+    }
+
+    private static ClassLoader getClassLoader() {
+        ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+        return contextClassLoader != null ? contextClassLoader : MappedBody.class.getClassLoader();
+    }
+
+    @Override
+    public InputStream open() {
+        return open(0, content.capacity());
+    }
+
+    // Each stream reads from its own view of the shared content, so the content itself is never copied
+    InputStream open(long offset, long length) {
+        return new ByteBufferInputStream(content.duplicate().position((int) offset).limit((int) (offset + length)));
+    }
+
+    @Override
+    public long length() {
+        return content.capacity();
+    }
+
+    @Override
+    public String toString() {
+        return "StreamingBody{source=" + source + ", length=" + length() + '}';
+    }
+
+    private record MappedFile(ByteBuffer content, long size, FileTime lastModified) {
+
+        private boolean isCurrent(BasicFileAttributes attributes) {
+            return size == attributes.size() && lastModified.equals(attributes.lastModifiedTime());
+        }
+    }
+}
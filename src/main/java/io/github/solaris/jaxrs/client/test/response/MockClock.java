@@ -0,0 +1,40 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The clock used by a {@link MockResponseCreator} to delay responses.
+ *
+ * @see MockResponseCreator#delay(Latency)
+ * @see RateLimitingResponseCreator
+ * @see VirtualClock
+ */
+@FunctionalInterface
+public interface MockClock {
+
+    /**
+     * Block the current thread for the given {@link Duration} according to this clock.
+     *
+     * @param duration The duration to block for
+     * @throws InterruptedException If the current thread was interrupted while blocking
+     */
+    void sleep(Duration duration) throws InterruptedException;
+
+    /**
+     * The current time of this clock in nanoseconds, only meaningful when compared to other readings of the same clock.
+     * Defaults to {@link System#nanoTime()}.
+     *
+     * @return The current time in nanoseconds
+     */
+    default long nanoTime() {
+        return System.nanoTime();
+    }
+
+    /**
+     * A {@code MockClock} that blocks for the given {@link Duration} in real time, e.g. for soak tests.
+     */
+    static MockClock realTime() {
+        return duration -> TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+    }
+}
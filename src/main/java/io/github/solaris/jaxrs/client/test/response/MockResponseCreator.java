@@ -1,10 +1,16 @@
 package io.github.solaris.jaxrs.client.test.response;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static jakarta.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -36,16 +42,29 @@ public class MockResponseCreator implements ResponseCreator {
     private final List<Link> links = new ArrayList<>();
     private final List<Variant> variants = new ArrayList<>();
 
+    private @Nullable Latency delay;
+    private MockClock clock = MockClock.realTime();
+
+    private boolean cached;
+    private volatile @Nullable CachedResponse cachedResponse;
+
     MockResponseCreator(StatusType status) {
         validateNotNull(status, "'status' must not be null.");
         this.status = status;
     }
 
     /**
-     * Set the response entity.
+     * <p>Set the response entity.</p>
+     * <p>
+     * A {@link StreamingBody} is opened anew for every created response and its length, if known,
+     * is used as the {@code Content-Length} unless that header is set explicitly.
+     * </p>
+     *
+     * @see StreamingBodies
      */
     public MockResponseCreator entity(Object entity) {
         this.entity = entity;
+        cachedResponse = null;
         return this;
     }
 
@@ -55,6 +74,7 @@ public class MockResponseCreator implements ResponseCreator {
     public MockResponseCreator mediaType(MediaType mediaType) {
         validateNotNull(mediaType, "'mediaType' must not be null.");
         headers.putSingle(CONTENT_TYPE, mediaType);
+        cachedResponse = null;
         return this;
     }
 
@@ -67,6 +87,7 @@ public class MockResponseCreator implements ResponseCreator {
         for (Object value : values) {
             headers.add(name, value);
         }
+        cachedResponse = null;
         return this;
     }
 
@@ -76,6 +97,7 @@ public class MockResponseCreator implements ResponseCreator {
     public MockResponseCreator cookies(NewCookie... cookies) {
         validateNotNull(cookies, "'cookies' must not be null.");
         this.cookies.addAll(Arrays.asList(cookies));
+        cachedResponse = null;
         return this;
     }
 
@@ -85,6 +107,7 @@ public class MockResponseCreator implements ResponseCreator {
     public MockResponseCreator links(Link... links) {
         validateNotNull(links, "'links' must not be null.");
         this.links.addAll(Arrays.asList(links));
+        cachedResponse = null;
         return this;
     }
 
@@ -94,11 +117,66 @@ public class MockResponseCreator implements ResponseCreator {
     public MockResponseCreator variants(Variant... variants) {
         validateNotNull(variants, "'variants' must not be null.");
         this.variants.addAll(Arrays.asList(variants));
+        cachedResponse = null;
+        return this;
+    }
+
+    /**
+     * Delay the response by the given {@link Duration}.
+     *
+     * @see #clock(MockClock)
+     */
+    public MockResponseCreator delay(Duration delay) {
+        validateNotNull(delay, "'delay' must not be null.");
+        return delay(Latency.fixed(delay));
+    }
+
+    /**
+     * Delay each response by the next delay of the given {@link Latency}.
+     *
+     * @see #clock(MockClock)
+     */
+    public MockResponseCreator delay(Latency latency) {
+        validateNotNull(latency, "'latency' must not be null.");
+        this.delay = latency;
+        return this;
+    }
+
+    /**
+     * <p>Set the {@link MockClock} that delays the response. Defaults to {@link MockClock#realTime()}.</p>
+     * <p>A {@link VirtualClock} allows delaying the response without actually waiting for the delay to pass.</p>
+     */
+    public MockResponseCreator clock(MockClock clock) {
+        validateNotNull(clock, "'clock' must not be null.");
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * <p>Serialize the response entity only once and reuse it for every created {@link Response}.</p>
+     * <p>
+     * The entity is serialized when the first {@code Response} is created and each {@code Response}
+     * receives a new {@link InputStream} over the serialized entity instead of the entity itself.
+     * The headers, cookies and links are prepared once as well.
+     * Modifying this {@code MockResponseCreator} afterwards discards the serialized entity.
+     * </p>
+     * <p>Intended for responses that are created many times, e.g. for expectations with {@code ExpectedCount.min(1)}.</p>
+     */
+    public MockResponseCreator cached() {
+        this.cached = true;
         return this;
     }
 
     @Override
     public Response createResponse(ClientRequestContext request) throws IOException {
+        if (delay != null) {
+            Delays.sleep(clock, delay.next());
+        }
+
+        if (cached) {
+            return createCachedResponse(request);
+        }
+
         Response.ResponseBuilder responseBuilder = Response.status(status)
                 .entity(entity)
                 .replaceAll(headers)
@@ -110,6 +188,13 @@ public class MockResponseCreator implements ResponseCreator {
             responseBuilder.variants(variants);
         }
 
+        // Streams are passed through by RESTEasy and CXF, so the body never has to be serialized.
+        // Jersey writes the entity of an aborted request into a byte array when it is first read,
+        // which holds the whole body in memory and fails for bodies larger than 2 GB.
+        if (entity instanceof StreamingBody body) {
+            return streamBody(responseBuilder, body, request).build();
+        }
+
         Response response = responseBuilder.build();
 
         // CXF does not serialize the entity when aborting a request,
@@ -128,4 +213,84 @@ public class MockResponseCreator implements ResponseCreator {
 
         return response;
     }
+
+    private Response.ResponseBuilder streamBody(Response.ResponseBuilder responseBuilder, StreamingBody body, ClientRequestContext request)
+            throws IOException {
+        if (body instanceof MappedBody mappedBody && status.getStatusCode() == OK.getStatusCode()) {
+            responseBuilder.header(ByteRange.ACCEPT_RANGES, "bytes");
+
+            String rangeHeader = request.getHeaderString(ByteRange.RANGE);
+            ByteRange range = rangeHeader == null ? null : ByteRange.parse(rangeHeader, mappedBody.length());
+            if (range != null) {
+                return streamRange(responseBuilder, mappedBody, range);
+            }
+        }
+
+        responseBuilder.entity(body.open());
+        long length = body.length();
+        if (length >= 0 && !headers.containsKey(CONTENT_LENGTH)) {
+            responseBuilder.header(CONTENT_LENGTH, length);
+        }
+        return responseBuilder;
+    }
+
+    private static Response.ResponseBuilder streamRange(Response.ResponseBuilder responseBuilder, MappedBody body, ByteRange range) {
+        responseBuilder.header(ByteRange.CONTENT_RANGE, range.toContentRange(body.length()))
+                .header(CONTENT_LENGTH, null);
+
+        if (range == ByteRange.UNSATISFIABLE) {
+            return responseBuilder.status(REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .entity(null)
+                    .header(CONTENT_TYPE, null);
+        }
+
+        return responseBuilder.status(PARTIAL_CONTENT)
+                .entity(body.open(range.first(), range.length()))
+                .header(CONTENT_LENGTH, range.length());
+    }
+
+    private Response createCachedResponse(ClientRequestContext request) throws IOException {
+        CachedResponse cachedResponse = this.cachedResponse;
+        if (cachedResponse == null) {
+            cachedResponse = cacheResponse(request);
+            this.cachedResponse = cachedResponse;
+        }
+
+        Response.ResponseBuilder responseBuilder = Response.status(status)
+                .replaceAll(new MultivaluedHashMap<>(cachedResponse.headers()))
+                .links(cachedResponse.links())
+                .cookie(cachedResponse.cookies());
+
+        byte[] serialized = cachedResponse.entity();
+        if (serialized != null) {
+            responseBuilder.entity(new ByteArrayInputStream(serialized));
+        } else if (entity instanceof StreamingBody body) {
+            streamBody(responseBuilder, body, request);
+        }
+        if (!variants.isEmpty()) {
+            responseBuilder.variants(variants);
+        }
+
+        return responseBuilder.build();
+    }
+
+    private CachedResponse cacheResponse(ClientRequestContext request) throws IOException {
+        byte[] serialized = null;
+        // A StreamingBody is never buffered, it's opened for every response instead
+        if (entity != null && !(entity instanceof StreamingBody)) {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            try (Response response = Response.status(status).entity(entity).replaceAll(headers).build()) {
+                serialized = converter.convertEntity(new SerializingRequestContext(response), byte[].class);
+            }
+        }
+
+        return new CachedResponse(
+                serialized,
+                new MultivaluedHashMap<>(headers),
+                links.toArray(new Link[0]),
+                cookies.toArray(new NewCookie[0])
+        );
+    }
+
+    private record CachedResponse(byte @Nullable [] entity, MultivaluedMap<String, Object> headers, Link[] links, NewCookie[] cookies) {}
 }
@@ -19,6 +19,7 @@ import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
 
 import java.io.IOException;
 import java.net.URI;
+import java.nio.file.Path;
 import java.util.Objects;
 
 import jakarta.ws.rs.core.MediaType;
@@ -53,6 +54,32 @@ public final class MockResponseCreators {
                 .mediaType(mediaType);
     }
 
+    /**
+     * {@code ResponseCreator} for status code 200 ({@link jakarta.ws.rs.core.Response.Status#OK OK})
+     * and the content of the given file as the response body.
+     * Supports {@code Range} requests.
+     *
+     * @param file      The file containing the response body
+     * @param mediaType The {@code Content-Type} of the file
+     * @see StreamingBodies#file(Path)
+     */
+    public static MockResponseCreator withFile(Path file, MediaType mediaType) {
+        return withSuccess(StreamingBodies.file(file), mediaType);
+    }
+
+    /**
+     * {@code ResponseCreator} for status code 200 ({@link jakarta.ws.rs.core.Response.Status#OK OK})
+     * and the content of the given classpath resource as the response body.
+     * Supports {@code Range} requests.
+     *
+     * @param resource  The name of the classpath resource containing the response body
+     * @param mediaType The {@code Content-Type} of the resource
+     * @see StreamingBodies#classpathResource(String)
+     */
+    public static MockResponseCreator withClasspathResource(String resource, MediaType mediaType) {
+        return withSuccess(StreamingBodies.classpathResource(resource), mediaType);
+    }
+
     /**
      * {@code ResponseCreator} for status code 201 ({@link jakarta.ws.rs.core.Response.Status#CREATED CREATED}) with a {@code Location} header.
      *
@@ -128,6 +155,20 @@ public final class MockResponseCreators {
         return new MockResponseCreator(TOO_MANY_REQUESTS).header(RETRY_AFTER, retryAfter);
     }
 
+    /**
+     * {@code ResponseCreator} that delegates to the given {@code ResponseCreator} within a rate limit
+     * and responds with status code 429 ({@link jakarta.ws.rs.core.Response.Status#TOO_MANY_REQUESTS TOO_MANY_REQUESTS})
+     * and a {@code Retry-After} header otherwise.
+     *
+     * @param responseCreator   The {@code ResponseCreator} for requests within the limit
+     * @param requestsPerSecond The sustained rate of accepted requests
+     * @param burst             The amount of requests that are accepted at once after a period without requests
+     * @see RateLimitingResponseCreator
+     */
+    public static RateLimitingResponseCreator withRateLimit(ResponseCreator responseCreator, double requestsPerSecond, int burst) {
+        return new RateLimitingResponseCreator(responseCreator, requestsPerSecond, burst);
+    }
+
     /**
      * {@code ResponseCreator} for status code 500 ({@link jakarta.ws.rs.core.Response.Status#INTERNAL_SERVER_ERROR INTERNAL_SERVER_ERROR})
      */
@@ -142,6 +183,19 @@ public final class MockResponseCreators {
         return new MockResponseCreator(SERVICE_UNAVAILABLE);
     }
 
+    /**
+     * {@code ResponseCreator} that delegates to the given {@code ResponseCreator} as long as at most {@code maxConcurrentRequests}
+     * requests are in flight, and responds with status code 503
+     * ({@link jakarta.ws.rs.core.Response.Status#SERVICE_UNAVAILABLE SERVICE_UNAVAILABLE}) otherwise.
+     *
+     * @param responseCreator       The {@code ResponseCreator} for requests within the limit
+     * @param maxConcurrentRequests The maximum amount of requests in flight at the same time
+     * @see ConcurrencyLimitingResponseCreator
+     */
+    public static ConcurrencyLimitingResponseCreator withConcurrencyLimit(ResponseCreator responseCreator, int maxConcurrentRequests) {
+        return new ConcurrencyLimitingResponseCreator(responseCreator, maxConcurrentRequests);
+    }
+
     /**
      * {@code ResponseCreator} for status code 504 ({@link jakarta.ws.rs.core.Response.Status#GATEWAY_TIMEOUT GATEWAY_TIMEOUT})
      */
@@ -0,0 +1,134 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+import jakarta.ws.rs.core.Response;
+
+/**
+ * <p>A {@link ResponseCreator} that enforces a rate limit on another {@code ResponseCreator}.</p>
+ * <p>
+ * Requests within the limit are delegated, all other requests are answered with status code 429
+ * ({@link jakarta.ws.rs.core.Response.Status#TOO_MANY_REQUESTS TOO_MANY_REQUESTS}) and a {@code Retry-After} header
+ * containing the seconds until the next request would be accepted.
+ * The limit behaves like a token bucket that holds up to {@code burst} tokens and is refilled at {@code requestsPerSecond},
+ * where every request takes one token. It's safe to use for concurrent requests without locking.
+ * </p>
+ * <pre><code>
+ * RateLimitingResponseCreator rateLimit = MockResponseCreators.withRateLimit(withSuccess(), 10, 5);
+ * server.expect(min(1), requestTo("/hello")).andRespond(rateLimit);
+ *
+ * // exercise the client
+ *
+ * assertThat(rateLimit.rejectedRequests()).isZero();
+ * </code></pre>
+ *
+ * @see MockResponseCreators#withRateLimit(ResponseCreator, double, int)
+ */
+public final class RateLimitingResponseCreator implements ResponseCreator {
+    private final ResponseCreator responseCreator;
+    private final double requestsPerSecond;
+    private final int burst;
+
+    // Implemented as the generic cell rate algorithm, which is equivalent to a token bucket
+    // but only needs to track the time at which the bucket would be full again, so it can be updated with a single CAS.
+    private final long emissionIntervalNanos;
+    private final long toleranceNanos;
+    private final AtomicLong theoreticalArrivalTime = new AtomicLong();
+    private final AtomicLong acceptedRequests = new AtomicLong();
+    private final AtomicLong rejectedRequests = new AtomicLong();
+
+    private volatile MockClock clock = MockClock.realTime();
+
+    RateLimitingResponseCreator(ResponseCreator responseCreator, double requestsPerSecond, int burst) {
+        validateNotNull(responseCreator, "'responseCreator' must not be null.");
+        if (!(requestsPerSecond > 0) || Double.isInfinite(requestsPerSecond)) {
+            throw new IllegalArgumentException("'requestsPerSecond' must be > 0");
+        }
+        if (burst < 1) {
+            throw new IllegalArgumentException("'burst' must be >= 1");
+        }
+
+        this.responseCreator = responseCreator;
+        this.requestsPerSecond = requestsPerSecond;
+        this.burst = burst;
+        this.emissionIntervalNanos = Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / requestsPerSecond));
+        this.toleranceNanos = emissionIntervalNanos * (burst - 1);
+        theoreticalArrivalTime.set(clock.nanoTime());
+    }
+
+    /**
+     * <p>Set the {@link MockClock} that measures the time between requests. Defaults to {@link MockClock#realTime()}.</p>
+     * <p>Refills the bucket completely.</p>
+     */
+    public RateLimitingResponseCreator clock(MockClock clock) {
+        validateNotNull(clock, "'clock' must not be null.");
+        this.clock = clock;
+        theoreticalArrivalTime.set(clock.nanoTime());
+        return this;
+    }
+
+    /**
+     * The amount of requests that were delegated so far.
+     */
+    public long acceptedRequests() {
+        return acceptedRequests.get();
+    }
+
+    /**
+     * The amount of requests that were answered with status code 429 so far.
+     */
+    public long rejectedRequests() {
+        return rejectedRequests.get();
+    }
+
+    @Override
+    public Response createResponse(ClientRequestContext request) throws IOException {
+        long waitNanos = acquire();
+        if (waitNanos > 0) {
+            rejectedRequests.incrementAndGet();
+            return MockResponseCreators.withTooManyRequests(toRetryAfterSeconds(waitNanos)).createResponse(request);
+        }
+
+        acceptedRequests.incrementAndGet();
+        return responseCreator.createResponse(request);
+    }
+
+    // Returns 0 if the request is within the limit, otherwise how long to wait until it would have been
+    private long acquire() {
+        MockClock currentClock = clock;
+        while (true) {
+            long now = currentClock.nanoTime();
+            long current = theoreticalArrivalTime.get();
+            long arrivalTime = current - now < 0 ? now : current;
+
+            long waitNanos = arrivalTime - now - toleranceNanos;
+            if (waitNanos > 0) {
+                return waitNanos;
+            }
+            if (theoreticalArrivalTime.compareAndSet(current, arrivalTime + emissionIntervalNanos)) {
+                return 0;
+            }
+        }
+    }
+
+    // Retry-After only supports whole seconds, rounding down would cause the retry to be rejected again
+    private static int toRetryAfterSeconds(long waitNanos) {
+        long seconds = (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1);
+        return (int) Math.min(seconds, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return "RateLimitingResponseCreator{"
+                + "requestsPerSecond=" + requestsPerSecond
+                + ", burst=" + burst
+                + ", acceptedRequests=" + acceptedRequests
+                + ", rejectedRequests=" + rejectedRequests
+                + '}';
+    }
+}
@@ -0,0 +1,322 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotBlank;
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.function.LongFunction;
+
+/**
+ * <p>Factory methods for {@link StreamingBody StreamingBodies} that generate their content while they are read.</p>
+ * <p>Example of responding with a 10 GB body without allocating it (not supported on Jersey, see {@link StreamingBody}):</p>
+ * <pre><code>
+ * server.expect(requestTo("/export"))
+ *     .andRespond(withSuccess(StreamingBodies.random(10L * 1024 * 1024 * 1024, 42), APPLICATION_OCTET_STREAM_TYPE));
+ * </code></pre>
+ */
+public final class StreamingBodies {
+    private static final byte[] ARRAY_START = {'['};
+    private static final byte[] ARRAY_SEPARATOR = {','};
+    private static final byte[] ARRAY_END = {']'};
+
+    private StreamingBodies() {}
+
+    /**
+     * A body of {@code length} bytes, consisting of the given pattern repeated as often as necessary.
+     *
+     * @param pattern The repeated bytes
+     * @param length  The length of the body
+     */
+    public static StreamingBody repeating(byte[] pattern, long length) {
+        validateNotNull(pattern, "'pattern' must not be null.");
+        if (pattern.length == 0) {
+            throw new IllegalArgumentException("'pattern' must not be empty");
+        }
+        validateLength(length);
+
+        byte[] copy = pattern.clone();
+        return new FixedLengthBody(length, () -> new RepeatingInputStream(copy, length));
+    }
+
+    /**
+     * A body of {@code length} bytes, consisting of the UTF-8 encoded pattern repeated as often as necessary.
+     *
+     * @param pattern The repeated text
+     * @param length  The length of the body
+     */
+    public static StreamingBody repeating(String pattern, long length) {
+        validateNotNull(pattern, "'pattern' must not be null.");
+        return repeating(pattern.getBytes(UTF_8), length);
+    }
+
+    /**
+     * A body of {@code length} pseudorandom bytes. Every stream opened over the body produces the same bytes for the same {@code seed}.
+     *
+     * @param length The length of the body
+     * @param seed   The seed of the random bytes
+     */
+    public static StreamingBody random(long length, long seed) {
+        validateLength(length);
+        return new FixedLengthBody(length, () -> new RandomInputStream(seed, length));
+    }
+
+    /**
+     * <p>A JSON array of {@code count} elements, where each element is generated from its index when it is read.</p>
+     * <p>The length of the body is unknown, so the response is sent without a {@code Content-Length}.</p>
+     *
+     * @param count   The number of elements
+     * @param element Creates the JSON of the element at the given index
+     */
+    public static StreamingBody jsonArray(long count, LongFunction<String> element) {
+        if (count < 0) {
+            throw new IllegalArgumentException("'count' must be >= 0");
+        }
+        validateNotNull(element, "'element' must not be null.");
+        return () -> new JsonArrayInputStream(count, element);
+    }
+
+    /**
+     * <p>A body with the content of the given file.</p>
+     * <p>
+     * The file is memory-mapped once per JVM and every response reads from the shared mapping.
+     * It's mapped again for new bodies if its size or modification time changed,
+     * but it must not be modified while responses created from it are still being read.
+     * Responses with status 200 answer requests with a single {@code Range} with 206 (Partial Content)
+     * or 416 (Range Not Satisfiable) respectively.
+     * </p>
+     *
+     * @param file The file, must not be larger than {@link Integer#MAX_VALUE} bytes
+     * @throws UncheckedIOException If the file can't be read
+     */
+    public static StreamingBody file(Path file) {
+        validateNotNull(file, "'file' must not be null.");
+        try {
+            return MappedBody.ofFile(file);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * <p>A body with the content of the given classpath resource, resolved through the context {@link ClassLoader}.</p>
+     * <p>
+     * Resources that are files are treated like {@link #file(Path)}, other resources, e.g. inside a JAR,
+     * are read once per JVM. {@code Range} requests are supported like for {@link #file(Path)}.
+     * </p>
+     *
+     * @param resource The name of the resource, e.g. {@code fixtures/users.json}
+     * @throws UncheckedIOException If the resource can't be read
+     */
+    public static StreamingBody classpathResource(String resource) {
+        validateNotBlank(resource, "'resource' must not be blank.");
+        try {
+            return MappedBody.ofClasspathResource(resource);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Deliver the given body slowly or unreliably, as configured through the returned {@link ThrottledBody}.
+     *
+     * @param body The body to deliver
+     */
+    public static ThrottledBody throttled(StreamingBody body) {
+        validateNotNull(body, "'body' must not be null.");
+        return new ThrottledBody(body);
+    }
+
+    /**
+     * Send the given body without a {@code Content-Length}, even if its length is known.
+     *
+     * @param body The body to send with an unknown length
+     */
+    public static StreamingBody chunked(StreamingBody body) {
+        validateNotNull(body, "'body' must not be null.");
+        return body::open;
+    }
+
+    private static void validateLength(long length) {
+        if (length < 0) {
+            throw new IllegalArgumentException("'length' must be >= 0");
+        }
+    }
+
+    private record FixedLengthBody(long length, StreamFactory streamFactory) implements StreamingBody {
+
+        @Override
+        public InputStream open() {
+            return streamFactory.open();
+        }
+
+        @Override
+        public String toString() {
+            return "StreamingBody{length=" + length + '}';
+        }
+    }
+
+    @FunctionalInterface
+    private interface StreamFactory {
+        InputStream open();
+    }
+
+    // Generates the content block by block, so reading never requires more memory than a single block
+    private abstract static class GeneratingInputStream extends InputStream {
+        private static final int BLOCK_SIZE = 8192;
+
+        private final byte[] block = new byte[BLOCK_SIZE];
+        private int position;
+        private int limit;
+        private boolean exhausted;
+
+        // Writes the next bytes into the block and returns how many were written, or -1 at the end of the content
+        abstract int fill(byte[] block);
+
+        private boolean ensureAvailable() {
+            while (position == limit) {
+                if (exhausted) {
+                    return false;
+                }
+
+                int filled = fill(block);
+                if (filled < 0) {
+                    exhausted = true;
+                    return false;
+                }
+                position = 0;
+                limit = filled;
+            }
+            return true;
+        }
+
+        @Override
+        public int read() {
+            return ensureAvailable() ? block[position++] & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (!ensureAvailable()) {
+                return -1;
+            }
+
+            int count = Math.min(len, limit - position);
+            System.arraycopy(block, position, b, off, count);
+            position += count;
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return limit - position;
+        }
+    }
+
+    private static final class RepeatingInputStream extends GeneratingInputStream {
+        private final byte[] pattern;
+        private long remaining;
+        private int patternPosition;
+
+        private RepeatingInputStream(byte[] pattern, long length) {
+            this.pattern = pattern;
+            this.remaining = length;
+        }
+
+        @Override
+        int fill(byte[] block) {
+            if (remaining == 0) {
+                return -1;
+            }
+
+            int count = (int) Math.min(block.length, remaining);
+            for (int written = 0; written < count; ) {
+                int chunk = Math.min(count - written, pattern.length - patternPosition);
+                System.arraycopy(pattern, patternPosition, block, written, chunk);
+                written += chunk;
+                patternPosition = (patternPosition + chunk) % pattern.length;
+            }
+            remaining -= count;
+            return count;
+        }
+    }
+
+    private static final class RandomInputStream extends GeneratingInputStream {
+        private final SplittableRandom random;
+        private long remaining;
+
+        private RandomInputStream(long seed, long length) {
+            this.random = new SplittableRandom(seed);
+            this.remaining = length;
+        }
+
+        // Always fills the whole block, so the generated bytes don't depend on how the stream is read
+        @Override
+        int fill(byte[] block) {
+            if (remaining == 0) {
+                return -1;
+            }
+
+            random.nextBytes(block);
+            int count = (int) Math.min(block.length, remaining);
+            remaining -= count;
+            return count;
+        }
+    }
+
+    private static final class JsonArrayInputStream extends GeneratingInputStream {
+        private final long count;
+        private final LongFunction<String> element;
+
+        private long index = -1;
+        private byte[] pending = ARRAY_START;
+        private int pendingPosition;
+
+        private JsonArrayInputStream(long count, LongFunction<String> element) {
+            this.count = count;
+            this.element = element;
+        }
+
+        @Override
+        int fill(byte[] block) {
+            int written = 0;
+            while (written < block.length) {
+                if (pendingPosition == pending.length && !nextPending()) {
+                    break;
+                }
+
+                int chunk = Math.min(block.length - written, pending.length - pendingPosition);
+                System.arraycopy(pending, pendingPosition, block, written, chunk);
+                written += chunk;
+                pendingPosition += chunk;
+            }
+            return written == 0 ? -1 : written;
+        }
+
+        // Moves on to the separator, the next element or the end of the array
+        private boolean nextPending() {
+            if (index >= count) {
+                return false;
+            }
+
+            if (pending != ARRAY_SEPARATOR && index >= 0 && index < count - 1) {
+                pending = ARRAY_SEPARATOR;
+            } else if (index < count - 1) {
+                index++;
+                pending = element.apply(index).getBytes(UTF_8);
+            } else {
+                index = count;
+                pending = ARRAY_END;
+            }
+            pendingPosition = 0;
+            return true;
+        }
+    }
+}
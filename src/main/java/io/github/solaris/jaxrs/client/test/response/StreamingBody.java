@@ -0,0 +1,38 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * <p>A response body that is generated while it is read, instead of being held in memory.</p>
+ * <p>
+ * Used as the entity of a {@link MockResponseCreator}, a new {@link InputStream} is opened for every created response,
+ * so the body can be arbitrarily large and the same {@code ResponseCreator} can respond multiple times.
+ * </p>
+ * <p>
+ * <strong>Jersey</strong> buffers the entity of a mocked response in memory when it is first read,
+ * so bodies read through Jersey must fit into memory and must not be larger than 2 GB.
+ * </p>
+ *
+ * @see StreamingBodies
+ */
+@FunctionalInterface
+public interface StreamingBody {
+
+    /**
+     * Open a new {@link InputStream} over the body.
+     *
+     * @return A stream positioned at the start of the body
+     * @throws IOException If the stream could not be opened
+     */
+    InputStream open() throws IOException;
+
+    /**
+     * The length of the body in bytes, used for the {@code Content-Length} header of the response.
+     *
+     * @return The length in bytes, or {@code -1} if the length is unknown
+     */
+    default long length() {
+        return -1;
+    }
+}
@@ -0,0 +1,246 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * <p>A {@link StreamingBody} that delivers the content of another body slowly or unreliably, to test how clients consume responses.</p>
+ * <p>
+ * The content can be delivered at a limited rate, stall after a number of bytes or fail after a number of bytes,
+ * e.g. with a {@link java.net.SocketException SocketException} to simulate a connection reset in the middle of the body.
+ * All delays are slept on a {@link MockClock}, so they can be skipped with a {@link VirtualClock}.
+ * As no actual connection is involved, the read timeout of the client does not apply to the delays.
+ * </p>
+ * <pre><code>
+ * StreamingBody body = StreamingBodies.throttled(StreamingBodies.random(1024 * 1024, 42))
+ *     .bytesPerSecond(64 * 1024)
+ *     .failAfter(512 * 1024, () -> new SocketException("Connection reset"));
+ *
+ * server.expect(requestTo("/download")).andRespond(withSuccess(body, APPLICATION_OCTET_STREAM_TYPE));
+ * </code></pre>
+ *
+ * @see StreamingBodies#throttled(StreamingBody)
+ */
+public final class ThrottledBody implements StreamingBody {
+    // The rate is enforced in steps of this fraction of a second, so slow rates deliver small chunks instead of bursts
+    private static final int STEPS_PER_SECOND = 10;
+
+    private final StreamingBody body;
+
+    private long bytesPerSecond;
+    private double jitter;
+    private long stallAfter = -1;
+    private Duration stall = Duration.ZERO;
+    private long failAfter = -1;
+    private @Nullable Supplier<? extends IOException> failure;
+    private MockClock clock = MockClock.realTime();
+
+    ThrottledBody(StreamingBody body) {
+        this.body = body;
+    }
+
+    /**
+     * Limit the rate at which the content is delivered.
+     *
+     * @param bytesPerSecond The maximum amount of bytes per second
+     */
+    public ThrottledBody bytesPerSecond(long bytesPerSecond) {
+        return bytesPerSecond(bytesPerSecond, 0);
+    }
+
+    /**
+     * Limit the rate at which the content is delivered, varying the time each chunk takes randomly by up to the given fraction.
+     *
+     * @param bytesPerSecond The average amount of bytes per second
+     * @param jitter         The maximum deviation from the rate, between {@code 0} and {@code 1}
+     */
+    public ThrottledBody bytesPerSecond(long bytesPerSecond, double jitter) {
+        if (bytesPerSecond <= 0) {
+            throw new IllegalArgumentException("'bytesPerSecond' must be > 0");
+        }
+        if (!(jitter >= 0 && jitter <= 1)) {
+            throw new IllegalArgumentException("'jitter' must be between 0 and 1");
+        }
+        this.bytesPerSecond = bytesPerSecond;
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Stop delivering the content for the given {@link Duration} once {@code bytes} bytes have been delivered.
+     *
+     * @param bytes The amount of bytes to deliver before stalling
+     * @param stall How long to stall
+     */
+    public ThrottledBody stallAfter(long bytes, Duration stall) {
+        validateBytes(bytes);
+        validateNotNull(stall, "'stall' must not be null.");
+        if (stall.isNegative()) {
+            throw new IllegalArgumentException("'stall' must not be negative");
+        }
+        this.stallAfter = bytes;
+        this.stall = stall;
+        return this;
+    }
+
+    /**
+     * Throw an {@link IOException} once {@code bytes} bytes have been delivered,
+     * e.g. a {@link java.net.SocketException SocketException} or {@link java.net.SocketTimeoutException SocketTimeoutException}.
+     * <p>Each opened stream obtains its own exception from the {@link Supplier}, so concurrent responses don't share its stack trace.</p>
+     *
+     * @param bytes     The amount of bytes to deliver before failing
+     * @param exception Supplies the exception to throw
+     */
+    public ThrottledBody failAfter(long bytes, Supplier<? extends IOException> exception) {
+        validateBytes(bytes);
+        validateNotNull(exception, "'exception' must not be null.");
+        this.failAfter = bytes;
+        this.failure = exception;
+        return this;
+    }
+
+    /**
+     * Set the {@link MockClock} to sleep on. Defaults to {@link MockClock#realTime()}.
+     */
+    public ThrottledBody clock(MockClock clock) {
+        validateNotNull(clock, "'clock' must not be null.");
+        this.clock = clock;
+        return this;
+    }
+
+    private static void validateBytes(long bytes) {
+        if (bytes < 0) {
+            throw new IllegalArgumentException("'bytes' must be >= 0");
+        }
+    }
+
+    @Override
+    public InputStream open() throws IOException {
+        return new ThrottledInputStream(body.open(), new Settings(bytesPerSecond, jitter, stallAfter, stall, failAfter, failure, clock));
+    }
+
+    @Override
+    public long length() {
+        return body.length();
+    }
+
+    @Override
+    public String toString() {
+        return "ThrottledBody{"
+                + "body=" + body
+                + ", bytesPerSecond=" + bytesPerSecond
+                + ", jitter=" + jitter
+                + ", stallAfter=" + stallAfter
+                + ", stall=" + stall
+                + ", failAfter=" + failAfter
+                + ", failure=" + failure
+                + '}';
+    }
+
+    // Captured when a stream is opened, so modifying the body doesn't affect responses that are already being read
+    private record Settings(
+            long bytesPerSecond,
+            double jitter,
+            long stallAfter,
+            Duration stall,
+            long failAfter,
+            @Nullable Supplier<? extends IOException> failure,
+            MockClock clock
+    ) {}
+
+    private static final class ThrottledInputStream extends InputStream {
+        private final InputStream content;
+        private final Settings settings;
+
+        private long delivered;
+        private boolean stalled;
+        private @Nullable IOException failure;
+
+        private ThrottledInputStream(InputStream content, Settings settings) {
+            this.content = content;
+            this.settings = settings;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] single = new byte[1];
+            return read(single, 0, 1) < 0 ? -1 : single[0] & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (len == 0) {
+                return 0;
+            }
+
+            beforeRead();
+            int read = content.read(b, off, limit(len));
+            if (read < 0) {
+                return -1;
+            }
+
+            delivered += read;
+            throttle(read);
+            return read;
+        }
+
+        private void beforeRead() throws IOException {
+            if (!stalled && settings.stallAfter() >= 0 && delivered >= settings.stallAfter()) {
+                stalled = true;
+                Delays.sleep(settings.clock(), settings.stall());
+            }
+
+            Supplier<? extends IOException> failureSupplier = settings.failure();
+            if (failureSupplier != null && delivered >= settings.failAfter()) {
+                if (failure == null) {
+                    failure = failureSupplier.get();
+                }
+                throw failure;
+            }
+        }
+
+        // Never reads past the next point where the stream stalls or fails, and at most one step of the rate at a time
+        private int limit(int len) {
+            long limit = len;
+            if (settings.bytesPerSecond() > 0) {
+                limit = Math.min(limit, Math.max(1, settings.bytesPerSecond() / STEPS_PER_SECOND));
+            }
+            if (!stalled && settings.stallAfter() > delivered) {
+                limit = Math.min(limit, settings.stallAfter() - delivered);
+            }
+            if (settings.failure() != null && settings.failAfter() > delivered) {
+                limit = Math.min(limit, settings.failAfter() - delivered);
+            }
+            return (int) limit;
+        }
+
+        private void throttle(int read) throws IOException {
+            if (settings.bytesPerSecond() <= 0) {
+                return;
+            }
+
+            double nanos = read * 1_000_000_000d / settings.bytesPerSecond();
+            if (settings.jitter() > 0) {
+                nanos *= 1 + settings.jitter() * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+            }
+            Delays.sleep(settings.clock(), Duration.ofNanos((long) nanos));
+        }
+
+        @Override
+        public int available() throws IOException {
+            return Math.min(content.available(), limit(Integer.MAX_VALUE));
+        }
+
+        @Override
+        public void close() throws IOException {
+            content.close();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
+
+import java.time.Duration;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * <p>A {@link MockClock} whose time only passes when it is {@linkplain #advance(Duration) advanced} explicitly.</p>
+ * <p>
+ * Threads sleeping on a {@code VirtualClock} are woken up once the clock has been advanced past their deadline,
+ * which allows testing timeouts and retries of delayed responses without actually waiting for them.
+ * </p>
+ * <pre><code>
+ * VirtualClock clock = new VirtualClock();
+ * server.expect(requestTo("/hello")).andRespond(withSuccess().delay(Duration.ofSeconds(30)).clock(clock));
+ *
+ * Future&lt;Response&gt; response = client.target("/hello").request().async().get();
+ * clock.awaitSleepers(1, Duration.ofSeconds(1));
+ * clock.advance(Duration.ofSeconds(30));
+ * </code></pre>
+ */
+public final class VirtualClock implements MockClock {
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+
+    private final boolean autoAdvancing;
+
+    private long elapsedNanos;
+    private int sleepers;
+
+    /**
+     * Create a {@code VirtualClock} that must be advanced explicitly.
+     */
+    public VirtualClock() {
+        this(false);
+    }
+
+    private VirtualClock(boolean autoAdvancing) {
+        this.autoAdvancing = autoAdvancing;
+    }
+
+    /**
+     * <p>Create a {@code VirtualClock} that advances itself to the deadline of every sleeping thread instead of blocking it.</p>
+     * <p>
+     * Intended for measuring how much time a response would take, e.g. a throttled body,
+     * by reading it and checking {@link #elapsed()} afterwards.
+     * </p>
+     */
+    public static VirtualClock autoAdvancing() {
+        return new VirtualClock(true);
+    }
+
+    /**
+     * The total {@link Duration} this clock has been advanced by.
+     */
+    public Duration elapsed() {
+        lock.lock();
+        try {
+            return Duration.ofNanos(elapsedNanos);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The total time this clock has been advanced by in nanoseconds.
+     */
+    @Override
+    public long nanoTime() {
+        lock.lock();
+        try {
+            return elapsedNanos;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * The amount of threads currently sleeping on this clock.
+     */
+    public int sleepers() {
+        lock.lock();
+        try {
+            return sleepers;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Advance this clock by the given {@link Duration}, waking up all threads whose deadline has passed.
+     *
+     * @param duration The duration to advance by
+     */
+    public void advance(Duration duration) {
+        validateNotNull(duration, "'duration' must not be null.");
+        if (duration.isNegative()) {
+            throw new IllegalArgumentException("'duration' must not be negative");
+        }
+
+        lock.lock();
+        try {
+            elapsedNanos += duration.toNanos();
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Wait in real time until at least {@code count} threads are sleeping on this clock,
+     * e.g. to make sure a delayed response is pending before advancing the clock.
+     *
+     * @param count   The expected amount of sleeping threads
+     * @param timeout How long to wait at most
+     * @return {@code true} if enough threads were sleeping before the timeout elapsed
+     * @throws InterruptedException If the current thread was interrupted while waiting
+     */
+    public boolean awaitSleepers(int count, Duration timeout) throws InterruptedException {
+        validateNotNull(timeout, "'timeout' must not be null.");
+        long remainingNanos = timeout.toNanos();
+
+        lock.lock();
+        try {
+            while (sleepers < count) {
+                if (remainingNanos <= 0) {
+                    return false;
+                }
+                remainingNanos = changed.awaitNanos(remainingNanos);
+            }
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void sleep(Duration duration) throws InterruptedException {
+        validateNotNull(duration, "'duration' must not be null.");
+
+        lock.lock();
+        try {
+            long deadline = elapsedNanos + duration.toNanos();
+            if (autoAdvancing) {
+                // Concurrent sleepers overlap like they would in real time
+                if (elapsedNanos - deadline < 0) {
+                    elapsedNanos = deadline;
+                    changed.signalAll();
+                }
+                return;
+            }
+
+            sleepers++;
+            changed.signalAll();
+            try {
+                while (elapsedNanos - deadline < 0) {
+                    changed.await();
+                }
+            } finally {
+                sleepers--;
+                changed.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "VirtualClock{elapsed=" + elapsed() + ", sleepers=" + sleepers() + ", autoAdvancing=" + autoAdvancing + '}';
+    }
+}
@@ -4,11 +4,10 @@ import java.io.IOException;
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
-import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import jakarta.ws.rs.client.ClientRequestContext;
 import jakarta.ws.rs.client.ClientRequestFilter;
@@ -34,8 +33,22 @@ import io.github.solaris.jaxrs.client.test.request.ProvidersEntityConverter;
  */
 public final class MockResponseFilter implements ClientRequestFilter {
     private static final MethodType GET_PROVIDERS_TYPE = MethodType.methodType(Providers.class);
-    private static final Set<Class<? extends ClientRequestContext>> SKIP_CLASSES = new HashSet<>();
-    private static final Map<Class<? extends ClientRequestContext>, MethodHandle> HANDLE_CACHE = new HashMap<>();
+    private static final ClassValue<ProvidersHandle> GET_PROVIDERS_HANDLES = new ClassValue<>() {
+        @Override
+        protected ProvidersHandle computeValue(Class<?> type) {
+            try {
+                return new ProvidersHandle(MethodHandles.publicLookup().findVirtual(type, "getProviders", GET_PROVIDERS_TYPE));
+            } catch (NoSuchMethodException | IllegalAccessException e) {
+                return new ProvidersHandle(null);
+            }
+        }
+    };
+
+    // Used when the MockRestServer didn't provide a converter it closes on reset
+    private final ClientEntityConverter clientEntityConverter = new ClientEntityConverter();
+
+    // One converter per Providers instance, bounded so Providers that change with every request don't accumulate converters
+    private final Map<Providers, ProvidersEntityConverter> providersConverters = Collections.synchronizedMap(new ConverterCache());
 
     @Context
     private @Nullable Providers providers;
@@ -44,7 +57,7 @@ public final class MockResponseFilter implements ClientRequestFilter {
 
     @Override
     public void filter(ClientRequestContext requestContext) throws IOException {
-        EntityConverter converter = getProvidersEntityConverter(requestContext).orElseGet(ClientEntityConverter::new);
+        EntityConverter converter = getProvidersEntityConverter(requestContext).orElseGet(() -> getClientEntityConverter(requestContext));
         requestContext.setProperty(EntityConverter.class.getName(), converter);
 
         Object property = requestContext.getConfiguration().getProperty(RequestExpectationManager.class.getName());
@@ -59,27 +72,62 @@ public final class MockResponseFilter implements ClientRequestFilter {
     }
 
     private Optional<EntityConverter> getProvidersEntityConverter(ClientRequestContext requestContext) {
-        if (providers != null) {
-            return Optional.of(new ProvidersEntityConverter(providers));
+        Optional<Providers> requestProviders = providers != null ? Optional.of(providers) : getProvidersFromHandle(requestContext);
+        return requestProviders.map(this::getProvidersEntityConverter);
+    }
+
+    // The converter is reused for the same Providers, so the MessageBodyWriters and -Readers it resolved are reused as well
+    private ProvidersEntityConverter getProvidersEntityConverter(Providers requestProviders) {
+        return providersConverters.computeIfAbsent(requestProviders, ProvidersEntityConverter::new);
+    }
+
+    // Shared by all requests of the bound component so the Client it uses for conversions is only created once
+    private ClientEntityConverter getClientEntityConverter(ClientRequestContext requestContext) {
+        if (requestContext.getConfiguration().getProperty(ClientEntityConverter.class.getName()) instanceof ClientEntityConverter converter) {
+            return converter;
         }
-        return getProvidersFromHandle(requestContext).map(ProvidersEntityConverter::new);
+        return clientEntityConverter;
     }
 
     private static Optional<Providers> getProvidersFromHandle(ClientRequestContext requestContext) {
-        if (SKIP_CLASSES.contains(requestContext.getClass())) {
-            return Optional.empty();
+        return GET_PROVIDERS_HANDLES.get(requestContext.getClass()).invoke(requestContext);
+    }
+
+    private static final class ConverterCache extends LinkedHashMap<Providers, ProvidersEntityConverter> {
+        private static final long serialVersionUID = 1L;
+        private static final int MAX_SIZE = 16;
+
+        private ConverterCache() {
+            super(MAX_SIZE, 0.75f, true);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Providers, ProvidersEntityConverter> eldest) {
+            return size() > MAX_SIZE;
         }
+    }
+
+    // Classes whose getProviders method can't be found or fails once are skipped for all following requests
+    private static final class ProvidersHandle {
+        private final @Nullable MethodHandle handle;
+        private volatile boolean skipped;
+
+        private ProvidersHandle(@Nullable MethodHandle handle) {
+            this.handle = handle;
+            this.skipped = handle == null;
+        }
+
+        private Optional<Providers> invoke(ClientRequestContext requestContext) {
+            if (skipped || handle == null) {
+                return Optional.empty();
+            }
 
-        try {
-            MethodHandle handle = HANDLE_CACHE.get(requestContext.getClass());
-            if (handle == null) {
-                handle = MethodHandles.publicLookup().findVirtual(requestContext.getClass(), "getProviders", GET_PROVIDERS_TYPE);
-                HANDLE_CACHE.put(requestContext.getClass(), handle);
+            try {
+                return Optional.ofNullable((Providers) handle.invoke(requestContext));
+            } catch (Throwable e) {
+                skipped = true;
+                return Optional.empty();
             }
-            return Optional.ofNullable((Providers) handle.invoke(requestContext));
-        } catch (Throwable e) {
-            SKIP_CLASSES.add(requestContext.getClass());
-            return Optional.empty();
         }
     }
 }
@@ -3,10 +3,12 @@ package io.github.solaris.jaxrs.client.test.server;
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 
 import java.time.Duration;
+import java.util.concurrent.CompletionStage;
 
 import jakarta.ws.rs.core.Configurable;
 
 import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
+import io.github.solaris.jaxrs.client.test.request.ClientEntityConverter;
 import io.github.solaris.jaxrs.client.test.request.ExpectedCount;
 import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
 import io.github.solaris.jaxrs.client.test.response.ResponseActions;
@@ -61,9 +63,11 @@ import io.github.solaris.jaxrs.client.test.response.ResponseActions;
  */
 public final class MockRestServer {
     private final RequestExpectationManager expectationManager;
+    private final ClientEntityConverter clientEntityConverter;
 
-    MockRestServer(RequestExpectationManager expectationManager) {
+    MockRestServer(RequestExpectationManager expectationManager, ClientEntityConverter clientEntityConverter) {
         this.expectationManager = expectationManager;
+        this.clientEntityConverter = clientEntityConverter;
     }
 
     /**
@@ -125,10 +129,24 @@ public final class MockRestServer {
         expectationManager.verify(timeout);
     }
 
+    /**
+     * <p>Obtain a {@link CompletionStage} that completes once all the set-up request expectations are satisfied.</p>
+     * <p>
+     * Intended for scenarios involving asynchronous requests where blocking on {@link #verify(Duration)} is undesirable.
+     * The {@code CompletionStage} completes exceptionally with an {@link AssertionError} if a request did not execute successfully,
+     * and is cancelled by {@link #reset()}.
+     * </p>
+     */
+    public CompletionStage<Void> whenSatisfied() {
+        return expectationManager.whenSatisfied();
+    }
+
     /**
      * Remove all expectations, received and failed requests.
+     * <p>Also closes the {@link jakarta.ws.rs.client.Client Client} that may have been created to convert request entities.</p>
      */
     public void reset() {
         expectationManager.reset();
+        clientEntityConverter.close();
     }
 }
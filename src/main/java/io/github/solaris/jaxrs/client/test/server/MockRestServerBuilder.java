@@ -2,12 +2,21 @@ package io.github.solaris.jaxrs.client.test.server;
 
 import static io.github.solaris.jaxrs.client.test.internal.ArgumentValidator.validateNotNull;
 
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.concurrent.ExecutorService;
+
+import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.core.Configurable;
 
+import org.jspecify.annotations.Nullable;
+
 import io.github.solaris.jaxrs.client.test.manager.OrderedRequestExpectationManager;
 import io.github.solaris.jaxrs.client.test.manager.RequestExpectationManager;
 import io.github.solaris.jaxrs.client.test.manager.StrictlyOrderedRequestExpectationManager;
 import io.github.solaris.jaxrs.client.test.manager.UnorderedRequestExpectationManager;
+import io.github.solaris.jaxrs.client.test.request.ClientEntityConverter;
 
 /**
  * Builder to create a {@link MockRestServer}.
@@ -16,6 +25,8 @@ public class MockRestServerBuilder {
     private final Configurable<?> configurable;
 
     private RequestOrder order = RequestOrder.ORDERED;
+    private RequestRetention retention = RequestRetention.all();
+    private @Nullable ExecutorService asyncExecutor;
 
     MockRestServerBuilder(Configurable<?> configurable) {
         this.configurable = configurable;
@@ -32,6 +43,53 @@ public class MockRestServerBuilder {
         return this;
     }
 
+    /**
+     * Set the desired {@link RequestRetention}. Defaults to {@link RequestRetention#all()}.
+     *
+     * @param retention Which executed requests to record
+     */
+    public MockRestServerBuilder withRequestRetention(RequestRetention retention) {
+        validateNotNull(retention, "'retention' must not be null.");
+        this.retention = retention;
+        return this;
+    }
+
+    /**
+     * <p>Set the {@link ExecutorService} that executes asynchronous requests, e.g. via {@code request().async()} or {@code rx()}.</p>
+     * <p>
+     * Mock responses are created on the thread executing the request, so a delayed response
+     * (see {@link io.github.solaris.jaxrs.client.test.response.MockResponseCreator#delay(java.time.Duration) MockResponseCreator.delay})
+     * occupies a thread of the executor until the delay has passed.
+     * Only supported when binding a {@link ClientBuilder} or a Microprofile
+     * {@link org.eclipse.microprofile.rest.client.RestClientBuilder RestClientBuilder}, as the executor of a built client can't be changed.
+     * The {@code ExecutorService} is not shut down by the client or the {@code MockRestServer}.
+     * Not supported by RESTEasy Reactive, which performs requests non-blocking on its Vert.x event loop.
+     * </p>
+     *
+     * @param executorService The executor for asynchronous requests
+     * @see #withVirtualThreadAsyncExecutor()
+     */
+    public MockRestServerBuilder withAsyncExecutor(ExecutorService executorService) {
+        validateNotNull(executorService, "'executorService' must not be null.");
+        this.asyncExecutor = executorService;
+        return this;
+    }
+
+    /**
+     * <p>Execute asynchronous requests on virtual threads, so that many concurrent delayed responses don't exhaust the async executor.</p>
+     * <p>
+     * Requires Java 21 or later.
+     * The internally created executor is never shut down, which leaks no threads,
+     * as every virtual thread ends with the request it executes.
+     * </p>
+     *
+     * @throws UnsupportedOperationException If virtual threads are not supported by the current JVM
+     * @see #withAsyncExecutor(ExecutorService)
+     */
+    public MockRestServerBuilder withVirtualThreadAsyncExecutor() {
+        return withAsyncExecutor(VirtualThreads.newExecutor());
+    }
+
     /**
      * Build the {@link MockRestServer} with the given request ordering and bind the given JAX-RS component to it.
      *
@@ -39,16 +97,69 @@ public class MockRestServerBuilder {
      */
     public MockRestServer build() {
         RequestExpectationManager expectationManager = switch (order) {
-            case ORDERED -> new OrderedRequestExpectationManager();
-            case UNORDERED -> new UnorderedRequestExpectationManager();
-            case STRICT -> new StrictlyOrderedRequestExpectationManager();
+            case ORDERED -> new OrderedRequestExpectationManager(retention);
+            case UNORDERED -> new UnorderedRequestExpectationManager(retention);
+            case STRICT -> new StrictlyOrderedRequestExpectationManager(retention);
         };
 
+        if (asyncExecutor != null) {
+            configureAsyncExecutor(asyncExecutor);
+        }
+
         if (!configurable.getConfiguration().isRegistered(MockResponseFilter.class)) {
             configurable.register(MockResponseFilter.class, Integer.MAX_VALUE);
         }
         configurable.property(RequestExpectationManager.class.getName(), expectationManager);
 
-        return new MockRestServer(expectationManager);
+        ClientEntityConverter clientEntityConverter = new ClientEntityConverter();
+        configurable.property(ClientEntityConverter.class.getName(), clientEntityConverter);
+
+        return new MockRestServer(expectationManager, clientEntityConverter);
+    }
+
+    private void configureAsyncExecutor(ExecutorService executorService) {
+        if (configurable instanceof ClientBuilder clientBuilder) {
+            clientBuilder.executorService(executorService);
+            return;
+        }
+
+        // RestClientBuilder is not a dependency of this library, so it has to be configured reflectively.
+        // The method is looked up on the public interface, as implementations usually aren't accessible.
+        Method executorServiceMethod = findExecutorServiceMethod(configurable.getClass());
+        if (executorServiceMethod == null) {
+            throw new IllegalStateException("An async executor can only be configured when binding a ClientBuilder or RestClientBuilder, but got a "
+                    + configurable.getClass().getName() + '.');
+        }
+
+        try {
+            executorServiceMethod.invoke(configurable, executorService);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    private static @Nullable Method findExecutorServiceMethod(Class<?> type) {
+        for (Class<?> interfaceType : type.getInterfaces()) {
+            if (Modifier.isPublic(interfaceType.getModifiers())) {
+                try {
+                    return interfaceType.getMethod("executorService", ExecutorService.class);
+                } catch (NoSuchMethodException e) {
+                    // Continue with the super interfaces
+                }
+            }
+
+            Method method = findExecutorServiceMethod(interfaceType);
+            if (method != null) {
+                return method;
+            }
+        }
+
+        Class<?> superclass = type.getSuperclass();
+        return superclass == null ? null : findExecutorServiceMethod(superclass);
     }
 }
@@ -0,0 +1,77 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+/**
+ * <p>A type representing which executed requests are recorded by the {@link MockRestServer}.</p>
+ * <p>
+ * Recorded requests are listed when an unexpected request is received or the verification fails.
+ * They are stored as snapshots of their method, URI and headers, the request entity is only recorded if requested via
+ * {@link #withEntity(int)}.
+ * Requests that did not execute successfully are always recorded, up to the first 100 of them.
+ * </p>
+ *
+ * @see MockRestServerBuilder#withRequestRetention(RequestRetention)
+ */
+public final class RequestRetention {
+    private final int maxRequests;
+    private final int maxEntityLength;
+
+    private RequestRetention(int maxRequests, int maxEntityLength) {
+        this.maxRequests = maxRequests;
+        this.maxEntityLength = maxEntityLength;
+    }
+
+    /**
+     * The maximum number of executed requests to record.
+     */
+    public int getMaxRequests() {
+        return maxRequests;
+    }
+
+    /**
+     * The maximum length of the request entity to record. {@code 0} if the entity is not recorded.
+     */
+    public int getMaxEntityLength() {
+        return maxEntityLength;
+    }
+
+    /**
+     * Record all executed requests. This is the default.
+     */
+    public static RequestRetention all() {
+        return new RequestRetention(Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Record the last {@code count} executed requests.
+     */
+    public static RequestRetention last(int count) {
+        if (count < 1) {
+            throw new IllegalArgumentException("'count' must be >= 1");
+        }
+        return new RequestRetention(count, 0);
+    }
+
+    /**
+     * Only record requests that did not execute successfully.
+     */
+    public static RequestRetention failuresOnly() {
+        return new RequestRetention(0, 0);
+    }
+
+    /**
+     * <p>Additionally record the request entity, truncated to {@code maxLength} characters.</p>
+     * <p>
+     * {@code byte[]} entities are decoded as UTF-8 and truncated to {@code maxLength} bytes.
+     * Any other entity is recorded via its {@code toString} method, the entity is not serialized.
+     * </p>
+     *
+     * @param maxLength The maximum number of characters to record
+     * @return A new {@code RequestRetention} that also records the request entity
+     */
+    public RequestRetention withEntity(int maxLength) {
+        if (maxLength < 0) {
+            throw new IllegalArgumentException("'maxLength' must be >= 0");
+        }
+        return new RequestRetention(maxRequests, maxLength);
+    }
+}
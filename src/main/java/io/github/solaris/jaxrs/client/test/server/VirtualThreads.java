@@ -0,0 +1,41 @@
+package io.github.solaris.jaxrs.client.test.server;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jspecify.annotations.Nullable;
+
+// Virtual threads are only available since Java 21, while this library targets Java 17
+final class VirtualThreads {
+    private static final @Nullable MethodHandle NEW_EXECUTOR = findNewExecutor();
+
+    private VirtualThreads() {}
+
+    private static @Nullable MethodHandle findNewExecutor() {
+        try {
+            return MethodHandles.publicLookup().findStatic(
+                    Executors.class,
+                    "newVirtualThreadPerTaskExecutor",
+                    MethodType.methodType(ExecutorService.class)
+            );
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    static ExecutorService newExecutor() {
+        MethodHandle newExecutor = NEW_EXECUTOR;
+        if (newExecutor == null) {
+            throw new UnsupportedOperationException("Virtual threads require Java 21 or later, but running on Java " + Runtime.version().feature() + '.');
+        }
+
+        try {
+            return (ExecutorService) newExecutor.invokeExact();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to create a virtual thread executor.", e);
+        }
+    }
+}
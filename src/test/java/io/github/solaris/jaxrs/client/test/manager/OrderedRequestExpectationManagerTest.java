@@ -11,14 +11,21 @@ import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.
 import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
 import static jakarta.ws.rs.HttpMethod.GET;
 import static jakarta.ws.rs.HttpMethod.POST;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
 import java.net.SocketException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.ws.rs.client.ClientRequestContext;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
 import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
 
 class OrderedRequestExpectationManagerTest {
@@ -50,6 +57,40 @@ class OrderedRequestExpectationManagerTest {
         assertThatCode(manager::verify).doesNotThrowAnyException();
     }
 
+    @Test
+    void testMismatchUsesUpNextExpectation() throws IOException {
+        manager.expectRequest(once(), requestTo("/hello")).andExpect(method(GET)).andRespond(withSuccess());
+        manager.expectRequest(once(), requestTo("/goodbye")).andExpect(method(GET)).andRespond(withSuccess());
+
+        assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/goodbye")).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Unexpected Request. expected: </hello> but was: </goodbye>");
+
+        manager.validateRequest(new MockClientRequestContext(GET, "/goodbye")).close();
+
+        assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("No further requests expected: HTTP GET /hello");
+    }
+
+    @Test
+    void testMatcherTestDisagreeingWithMatch() throws IOException {
+        RequestMatcher matcher = new RequestMatcher() {
+            @Override
+            public void match(ClientRequestContext request) {}
+
+            @Override
+            public boolean test(ClientRequestContext request) {
+                return false;
+            }
+        };
+        manager.expectRequest(once(), matcher).andRespond(withSuccess());
+
+        manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+
+        assertThatCode(manager::verify).doesNotThrowAnyException();
+    }
+
     @Test
     void testTooManySequentialRequests() throws IOException {
         manager.expectRequest(once(), requestTo("/hello")).andExpect(method(GET)).andRespond(withSuccess());
@@ -194,4 +235,29 @@ class OrderedRequestExpectationManagerTest {
             manager.verify();
         }).doesNotThrowAnyException();
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 10_000})
+    void testIndexedLookup(int expectationCount) {
+        AtomicInteger evaluations = new AtomicInteger();
+        for (int i = 0; i < expectationCount; i++) {
+            manager.expectRequest(times(2), request -> evaluations.incrementAndGet())
+                    .andExpect(requestTo("/resource/" + i))
+                    .andExpect(method(GET))
+                    .andRespond(withSuccess());
+        }
+
+        assertThatCode(() -> {
+            for (int i = 0; i < expectationCount; i++) {
+                manager.validateRequest(new MockClientRequestContext(GET, "/resource/" + i)).close();
+            }
+            for (int i = expectationCount - 1; i >= 0; i--) {
+                manager.validateRequest(new MockClientRequestContext(GET, "/resource/" + i)).close();
+            }
+            manager.verify();
+        }).doesNotThrowAnyException();
+
+        // Only the indexed candidate is evaluated, independent of the amount of expectations
+        assertThat(evaluations).hasValue(2 * expectationCount);
+    }
 }
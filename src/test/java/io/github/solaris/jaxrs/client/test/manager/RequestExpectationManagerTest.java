@@ -0,0 +1,65 @@
+package io.github.solaris.jaxrs.client.test.manager;
+
+import static io.github.solaris.jaxrs.client.test.request.ExpectedCount.times;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.HttpMethod.GET;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
+
+class RequestExpectationManagerTest {
+
+    @ParameterizedTest
+    @MethodSource("managers")
+    void testConcurrentRequests(RequestExpectationManager manager) throws Exception {
+        int requestCount = 500;
+        // Every matcher invocation waits for all others, which only succeeds if the matchers are invoked concurrently
+        CyclicBarrier barrier = new CyclicBarrier(requestCount);
+        manager.expectRequest(times(requestCount), request -> {
+            try {
+                barrier.await(10, SECONDS);
+            } catch (InterruptedException | BrokenBarrierException | TimeoutException e) {
+                throw new IllegalStateException(e);
+            }
+        }).andRespond(withSuccess());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(executor.submit(() -> {
+                    manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThatCode(manager::verify).doesNotThrowAnyException();
+    }
+
+    private static Stream<Arguments> managers() {
+        return Stream.of(
+                argumentSet("ordered", new OrderedRequestExpectationManager()),
+                argumentSet("unordered", new UnorderedRequestExpectationManager()),
+                argumentSet("strictlyOrdered", new StrictlyOrderedRequestExpectationManager())
+        );
+    }
+}
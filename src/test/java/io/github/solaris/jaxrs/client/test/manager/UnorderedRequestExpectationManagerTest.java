@@ -8,11 +8,26 @@ import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.method
 import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
 import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
 import static jakarta.ws.rs.HttpMethod.GET;
+import static jakarta.ws.rs.HttpMethod.POST;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
+import io.github.solaris.jaxrs.client.test.server.RequestRetention;
 import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
 
 class UnorderedRequestExpectationManagerTest {
@@ -106,4 +121,144 @@ class UnorderedRequestExpectationManagerTest {
                         GET /goodbye
                         """);
     }
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 1_000, 10_000})
+    void testIndexedLookup(int expectationCount) {
+        AtomicInteger evaluations = new AtomicInteger();
+        for (int i = 0; i < expectationCount; i++) {
+            manager.expectRequest(once(), request -> evaluations.incrementAndGet())
+                    .andExpect(requestTo("/resource/" + i))
+                    .andExpect(method(GET))
+                    .andRespond(withSuccess());
+        }
+
+        assertThatCode(() -> {
+            for (int i = expectationCount - 1; i >= 0; i--) {
+                manager.validateRequest(new MockClientRequestContext(GET, "/resource/" + i)).close();
+            }
+            manager.verify();
+        }).doesNotThrowAnyException();
+
+        // Only the indexed candidate is evaluated, independent of the amount of expectations
+        assertThat(evaluations).hasValue(expectationCount);
+    }
+
+    @Test
+    void testWhenSatisfied() throws IOException {
+        manager.expectRequest(times(2), requestTo("/hello")).andRespond(withSuccess());
+
+        CompletableFuture<Void> satisfied = manager.whenSatisfied().toCompletableFuture();
+        manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+        assertThat(satisfied).isNotDone();
+
+        manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+        assertThat(satisfied).isCompleted();
+        assertThat(manager.whenSatisfied().toCompletableFuture()).isCompleted();
+    }
+
+    @Test
+    void testWhenSatisfied_failedRequest() {
+        manager.expectRequest(once(), requestTo("/hello")).andRespond(withSuccess());
+
+        CompletableFuture<Void> satisfied = manager.whenSatisfied().toCompletableFuture();
+        assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/goodbye")).close())
+                .isInstanceOf(AssertionError.class);
+
+        assertThat(satisfied).failsWithin(Duration.ZERO)
+                .withThrowableOfType(ExecutionException.class)
+                .havingCause()
+                .isInstanceOf(AssertionError.class)
+                .withMessage("""
+                        Some requests did not execute successfully.
+                        
+                        Failed request:
+                        GET /goodbye
+                        java.lang.AssertionError: No further requests expected: HTTP GET /goodbye
+                        0 request(s) executed.
+                        """);
+    }
+
+    @Test
+    void testWhenSatisfied_reset() {
+        manager.expectRequest(once(), requestTo("/hello")).andRespond(withSuccess());
+
+        CompletableFuture<Void> satisfied = manager.whenSatisfied().toCompletableFuture();
+        manager.reset();
+
+        assertThat(satisfied).isCancelled();
+    }
+
+    @Test
+    void testVerifyWithTimeout_signalled() throws Exception {
+        manager.expectRequest(once(), requestTo("/hello")).andRespond(withSuccess());
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<?> request = executor.submit(() -> {
+                Thread.sleep(100L);
+                manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+                return null;
+            });
+
+            Instant start = Instant.now();
+            assertThatCode(() -> manager.verify(Duration.ofSeconds(10L))).doesNotThrowAnyException();
+            assertThat(Duration.between(start, Instant.now())).isLessThan(Duration.ofSeconds(10L));
+            request.get();
+        }
+    }
+
+    @Test
+    void testRequestRetention_last() throws IOException {
+        RequestExpectationManager manager = new UnorderedRequestExpectationManager(RequestRetention.last(1));
+        manager.expectRequest(times(2), requestTo("/hello")).andRespond(withSuccess());
+
+        manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+        manager.validateRequest(new MockClientRequestContext(POST, "/hello")).close();
+
+        assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/goodbye")).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("""
+                        No further requests expected: HTTP GET /goodbye
+                        2 request(s) executed, 1 retained:
+                        POST /hello
+                        """);
+    }
+
+    @Test
+    void testRequestRetention_failuresOnly() throws IOException {
+        RequestExpectationManager manager = new UnorderedRequestExpectationManager(RequestRetention.failuresOnly());
+        manager.expectRequest(once(), requestTo("/hello")).andRespond(withSuccess());
+
+        assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/goodbye")).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("""
+                        No further requests expected: HTTP GET /goodbye
+                        0 request(s) executed.
+                        """);
+        manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close();
+
+        assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/hello")).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("""
+                        No further requests expected: HTTP GET /hello
+                        2 request(s) executed, 1 retained:
+                        GET /goodbye
+                        """);
+    }
+
+    @Test
+    void testRequestRetention_failedRequestsCapped() {
+        RequestExpectationManager manager = new UnorderedRequestExpectationManager(RequestRetention.failuresOnly());
+        manager.expectRequest(once(), requestTo("/hello")).andRespond(withSuccess());
+
+        for (int i = 0; i < RequestJournal.MAX_FAILED_REQUESTS + 2; i++) {
+            assertThatThrownBy(() -> manager.validateRequest(new MockClientRequestContext(GET, "/goodbye")).close())
+                    .isInstanceOf(AssertionError.class);
+        }
+
+        assertThatThrownBy(manager::verify)
+                .isInstanceOf(AssertionError.class)
+                .hasMessageStartingWith("Some requests did not execute successfully.")
+                .hasMessageEndingWith("2 further failed request(s) were not recorded.");
+    }
 }
@@ -8,11 +8,14 @@ import static io.github.solaris.jaxrs.client.test.util.MultiParts.jsonPart;
 import static io.github.solaris.jaxrs.client.test.util.MultiParts.listPart;
 import static io.github.solaris.jaxrs.client.test.util.MultiParts.plainPart;
 import static io.github.solaris.jaxrs.client.test.util.MultiParts.toMultiPartEntity;
+import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.CXF;
 import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.JERSEY;
+import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.RESTEASY;
 import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.RESTEASY_REACTIVE;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_LENGTH;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_FORM_URLENCODED_TYPE;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
 import static jakarta.ws.rs.core.MediaType.CHARSET_PARAMETER;
 import static jakarta.ws.rs.core.MediaType.MULTIPART_FORM_DATA;
 import static jakarta.ws.rs.core.MediaType.TEXT_HTML_TYPE;
@@ -21,7 +24,10 @@ import static java.nio.charset.StandardCharsets.US_ASCII;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -43,6 +49,7 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
+import io.github.solaris.jaxrs.client.test.response.StreamingBodies;
 import io.github.solaris.jaxrs.client.test.server.MockRestServer;
 import io.github.solaris.jaxrs.client.test.util.Dto;
 import io.github.solaris.jaxrs.client.test.util.EntityConverterAssert;
@@ -60,12 +67,12 @@ class EntityConverterTest {
 
     @JaxRsVendorTest
     void testConvertEntity_type(EntityConverterAssert converterAssert) {
-        String entity = "hello";
+        Form form = new Form("greeting", "hello");
 
-        server.expect(converterAssert.typeAsserter(entity, 1)).andRespond(withSuccess());
+        server.expect(converterAssert.typeAsserter("greeting=hello", 1)).andRespond(withSuccess());
 
         assertThatCode(() -> {
-            try (Response response = client.target("/hello").request().post(Entity.text(entity.getBytes()))) {
+            try (Response response = client.target("/hello").request().post(Entity.form(form))) {
                 assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
             }
         }).doesNotThrowAnyException();
@@ -84,6 +91,130 @@ class EntityConverterTest {
         }).doesNotThrowAnyException();
     }
 
+    @JaxRsVendorTest
+    void testConvertEntity_type_rawEntity(EntityConverterAssert converterAssert) {
+        String entity = "hello";
+
+        server.expect(converterAssert.typeAsserter(entity, 0)).andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.text(entity.getBytes()))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testConvertEntity_type_cached(EntityConverterAssert converterAssert) {
+        Form form = new Form("greeting", "hello");
+
+        server.expect(converterAssert.typeAsserter("greeting=hello", 1))
+                .andExpect(converterAssert.typeAsserter("greeting=hello", 0))
+                .andExpect(RequestMatchers.entity().string("greeting=hello"))
+                .andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.form(form))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testConvertEntity_type_cachedFormCopied() {
+        server.expect(request -> {
+                    Form form = EntityConverter.fromRequestContext(request).convertEntity(request, Form.class);
+                    form.param("greeting", "goodbye");
+                })
+                .andExpect(request -> {
+                    Form form = EntityConverter.fromRequestContext(request).convertEntity(request, Form.class);
+                    assertThat(form.asMap().get("greeting")).containsExactly("hello");
+                })
+                .andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.entity("greeting=hello", APPLICATION_FORM_URLENCODED_TYPE))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = {RESTEASY, CXF, RESTEASY_REACTIVE})
+    void testConvertEntity_type_roundTripClientReused(EntityConverterAssert converterAssert) {
+        Form form = new Form("greeting", "hello");
+
+        server.expect(converterAssert.typeAsserter("greeting=hello", 1)).andRespond(withSuccess());
+        server.expect(converterAssert.typeAsserter("greeting=hello", 0)).andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 2; i++) {
+                try (Response response = client.target("/hello").request().post(Entity.form(form))) {
+                    assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+                }
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = {RESTEASY, CXF, RESTEASY_REACTIVE})
+    void testConvertEntity_type_roundTripClientClosedOnReset(EntityConverterAssert converterAssert) {
+        Form form = new Form("greeting", "hello");
+
+        server.expect(converterAssert.typeAsserter("greeting=hello", 1)).andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.form(form))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+
+        server.reset();
+        server.expect(converterAssert.typeAsserter("greeting=hello", 1)).andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.form(form))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testConvertEntity_type_inputStreamConvertedTwice() {
+        server.expect(request -> {
+                    EntityConverter converter = EntityConverter.fromRequestContext(request);
+                    assertThat(converter.convertEntity(request, String.class)).isEqualTo("hello");
+                    assertThat(converter.convertEntity(request, byte[].class)).isEqualTo("hello".getBytes(US_ASCII));
+                })
+                .andRespond(withSuccess());
+
+        InputStream entity = new ByteArrayInputStream("hello".getBytes(US_ASCII));
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.entity(entity, APPLICATION_OCTET_STREAM_TYPE))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = JERSEY)
+    void testFromRequestContext_providersConverterReused() {
+        List<EntityConverter> converters = new ArrayList<>();
+        server.expect(ExpectedCount.times(2), request -> converters.add(EntityConverter.fromRequestContext(request))).andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            for (int i = 0; i < 2; i++) {
+                try (Response response = client.target("/hello").request().post(Entity.text("hello"))) {
+                    assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+                }
+            }
+        }).doesNotThrowAnyException();
+
+        assertThat(converters)
+                .hasSizeGreaterThanOrEqualTo(2)
+                .allSatisfy(converter -> assertThat(converter)
+                        .isInstanceOf(ProvidersEntityConverter.class)
+                        .isSameAs(converters.get(0)));
+    }
+
     @JaxRsVendorTest
     void testConvertEntity_type_noEntityPresent(FilterExceptionAssert filterExceptionAssert) {
         server.expect(request -> {
@@ -109,6 +240,19 @@ class EntityConverterTest {
         }).doesNotThrowAnyException();
     }
 
+    @JaxRsVendorTest
+    void testConvertEntity_genericType_repeated(EntityConverterAssert converterAssert) {
+        Form form = new Form("greeting", "hello");
+
+        server.expect(converterAssert.repeatedGenericTypeAsserter(form.asMap(), 3)).andRespond(withSuccess());
+
+        assertThatCode(() -> {
+            try (Response response = client.target("/hello").request().post(Entity.form(form))) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }).doesNotThrowAnyException();
+    }
+
     @JaxRsVendorTest
     void testConvertEntity_genericType_shortCircuit(EntityConverterAssert converterAssert) {
         Form form = new Form("greeting", "hello");
@@ -271,6 +415,95 @@ class EntityConverterTest {
                 .doesNotThrowAnyException();
     }
 
+    @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+    void testBufferMultipartRequestLazily() {
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            List<EntityPart> parts = converter.bufferMultipartRequestLazily(request);
+
+            assertThat(parts).extracting(EntityPart::getName).containsExactly("plain", "image.png");
+            assertThat(parts).allSatisfy(part -> assertThat(((LazyEntityPart) part).isBuffered()).isFalse());
+
+            assertThat(parts.getFirst().getContent(String.class)).isEqualTo(PLAIN_CONTENT);
+            assertThat(parts.getFirst().getContent(String.class)).isEqualTo(PLAIN_CONTENT);
+            assertThat(((LazyEntityPart) parts.getFirst()).isBuffered()).isTrue();
+            assertThat(((LazyEntityPart) parts.getLast()).isBuffered()).isFalse();
+        }).andRespond(withSuccess());
+
+        assertThatCode(
+                () -> client.target("/hello")
+                        .request()
+                        .post(toMultiPartEntity(plainPart(), imagePart()))
+                        .close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+    void testBufferMultipartRequestLazily_largeAttachment() {
+        long attachmentLength = 16L * 1024 * 1024;
+
+        server.expect(request -> {
+                    List<EntityPart> parts = EntityConverter.fromRequestContext(request).bufferMultipartRequestLazily(request);
+
+                    assertThat(parts.getFirst().getContent(String.class)).isEqualTo(PLAIN_CONTENT);
+                    assertThat(((LazyEntityPart) parts.getLast()).isBuffered()).isFalse();
+                })
+                .andExpect(RequestMatchers.entity().multipartPart("large", part -> {
+                    try (InputStream content = part.getContent()) {
+                        assertThat(content.transferTo(OutputStream.nullOutputStream())).isEqualTo(attachmentLength);
+                    }
+                }))
+                .andRespond(withSuccess());
+
+        assertThatCode(
+                () -> client.target("/hello")
+                        .request()
+                        .post(toMultiPartEntity(plainPart(), EntityPart.withFileName("large")
+                                .mediaType(APPLICATION_OCTET_STREAM_TYPE)
+                                .content(StreamingBodies.repeating("x", attachmentLength).open())
+                                .build()))
+                        .close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+    void testBufferMultipartRequestLazily_repeated() {
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            List<EntityPart> parts = converter.bufferMultipartRequestLazily(request);
+
+            assertThat(converter.bufferMultipartRequestLazily(request)).containsExactlyElementsOf(parts);
+            assertThat(converter.bufferMultipartRequestLazily(request).getFirst()).isSameAs(parts.getFirst());
+        }).andRespond(withSuccess());
+
+        assertThatCode(
+                () -> client.target("/hello")
+                        .request()
+                        .post(toMultiPartEntity(plainPart()))
+                        .close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+    void testBufferMultipartRequestLazily_thenEagerly() {
+        server.expect(request -> {
+            EntityConverter converter = EntityConverter.fromRequestContext(request);
+            List<EntityPart> lazyParts = converter.bufferMultipartRequestLazily(request);
+            List<EntityPart> bufferedParts = converter.bufferMultipartRequest(request);
+
+            assertThat(((LazyEntityPart) lazyParts.getFirst()).isBuffered()).isTrue();
+            assertThat(bufferedParts.getFirst().getContent(String.class)).isEqualTo(PLAIN_CONTENT);
+            assertThat(bufferedParts.getFirst()).isEqualTo(((LazyEntityPart) lazyParts.getFirst()).getBufferedPart());
+        }).andRespond(withSuccess());
+
+        assertThatCode(
+                () -> client.target("/hello")
+                        .request()
+                        .post(toMultiPartEntity(plainPart()))
+                        .close())
+                .doesNotThrowAnyException();
+    }
+
     @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
     void testBufferMultipartRequest_notMultiPartFormData(FilterExceptionAssert filterExceptionAssert) {
         server.expect(request -> {
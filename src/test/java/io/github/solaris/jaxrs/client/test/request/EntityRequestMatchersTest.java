@@ -6,6 +6,7 @@ import static io.github.solaris.jaxrs.client.test.util.MultiParts.jsonPart;
 import static io.github.solaris.jaxrs.client.test.util.MultiParts.partsBufferMatcher;
 import static io.github.solaris.jaxrs.client.test.util.MultiParts.plainPart;
 import static io.github.solaris.jaxrs.client.test.util.MultiParts.toMultiPartEntity;
+import static io.github.solaris.jaxrs.client.test.util.ProbeAssert.assertProbe;
 import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.JERSEY;
 import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.RESTEASY_REACTIVE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_ATOM_XML;
@@ -15,6 +16,7 @@ import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_OCTET_STREAM_TYPE;
 import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
@@ -27,6 +29,7 @@ import java.util.stream.Stream;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
 import jakarta.ws.rs.client.Entity;
+import jakarta.ws.rs.core.EntityPart;
 import jakarta.ws.rs.core.Form;
 import jakarta.ws.rs.core.MediaType;
 
@@ -123,7 +126,11 @@ class EntityRequestMatchersTest {
                 argumentSet("testMultipartForm_null",
                         (ThrowingCallable) () -> RequestMatchers.entity().multipartForm(null), "'expectedEntityParts' must not be null."),
                 argumentSet("testMultipartFormContains_null",
-                        (ThrowingCallable) () -> RequestMatchers.entity().multipartFormContains(null), "'expectedEntityParts' must not be null.")
+                        (ThrowingCallable) () -> RequestMatchers.entity().multipartFormContains(null), "'expectedEntityParts' must not be null."),
+                argumentSet("testMultipartPart_nameNull",
+                        (ThrowingCallable) () -> RequestMatchers.entity().multipartPart(null, part -> {}), "'name' must not be null."),
+                argumentSet("testMultipartPart_partAssertionNull",
+                        (ThrowingCallable) () -> RequestMatchers.entity().multipartPart("json", null), "'partAssertion' must not be null.")
         );
     }
 
@@ -241,6 +248,25 @@ class EntityRequestMatchersTest {
                         .doesNotThrowAnyException();
             }
 
+            @JaxRsVendorTest
+            void testFormContains_probe() {
+                Form actualForm = new Form()
+                        .param("greeting", "hello")
+                        .param("greeting", "salutations")
+                        .param("sendoff", "goodbye");
+
+                server.expect(request -> {
+                    assertProbe(request, RequestMatchers.entity().formContains(new Form().param("greeting", "hello")), true);
+                    assertProbe(request, RequestMatchers.entity().formContains(new Form().param("greeting", "salutations")), false);
+                    assertProbe(request, RequestMatchers.entity().formContains(new Form().param("question", "how are you?")), false);
+                    assertProbe(request, RequestMatchers.entity().formContains(
+                            new Form().param("greeting", "hello").param("greeting", "salutations").param("greeting", "good morning")), false);
+                }).andRespond(withSuccess());
+
+                assertThatCode(() -> client.target("/hello").request().post(Entity.form(actualForm)).close())
+                        .doesNotThrowAnyException();
+            }
+
             @JaxRsVendorTest
             void testFormContains_subsetIsLarger(FilterExceptionAssert filterExceptionAssert) {
                 Form actualForm = new Form()
@@ -391,6 +417,65 @@ class EntityRequestMatchersTest {
                         .hasMessage("Multipart Form expected: <%s> but was: <%s>", partsBuffer.get().expected(), partsBuffer.get().actual());
             }
 
+            @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+            void testMultipartPart() throws IOException {
+                server.expect(RequestMatchers.entity().multipartPart("json", part -> assertThat(part.getContent(Dto.class)).isEqualTo(new Dto(false))))
+                        .andRespond(withSuccess());
+
+                assertThatCode(
+                        () -> client.target("/hello")
+                                .request()
+                                .post(toMultiPartEntity(plainPart(), imagePart(), jsonPart()))
+                                .close())
+                        .doesNotThrowAnyException();
+            }
+
+            @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+            void testMultipartPart_equalsBufferedPart() throws IOException {
+                server.expect(request -> {
+                    EntityConverter converter = EntityConverter.fromRequestContext(request);
+                    EntityPart expectedPart = converter.bufferExpectedMultipart(List.of(plainPart())).getFirst();
+
+                    RequestMatchers.entity().multipartPart("plain", part -> {
+                        assertThat(part).isEqualTo(expectedPart).hasSameHashCodeAs(expectedPart);
+                        assertThat(expectedPart).isEqualTo(part);
+                    }).match(request);
+                }).andRespond(withSuccess());
+
+                assertThatCode(
+                        () -> client.target("/hello")
+                                .request()
+                                .post(toMultiPartEntity(plainPart(), imagePart()))
+                                .close())
+                        .doesNotThrowAnyException();
+            }
+
+            @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+            void testMultipartPart_missing(FilterExceptionAssert filterExceptionAssert) throws IOException {
+                server.expect(RequestMatchers.entity().multipartPart("json", part -> {})).andRespond(withSuccess());
+
+                filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello")
+                                .request()
+                                .post(toMultiPartEntity(plainPart(), imagePart()))
+                                .close())
+                        .isInstanceOf(AssertionError.class)
+                        .hasMessageStartingWith("Expected [LazyEntityPart{name=plain")
+                        .hasMessageEndingWith("to contain a part named 'json'");
+            }
+
+            @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+            void testMultipartPart_noMatch(FilterExceptionAssert filterExceptionAssert) throws IOException {
+                server.expect(RequestMatchers.entity().multipartPart("plain", part -> assertThat(part.getContent(String.class)).isEqualTo("goodbye")))
+                        .andRespond(withSuccess());
+
+                filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello")
+                                .request()
+                                .post(toMultiPartEntity(plainPart(), imagePart()))
+                                .close())
+                        .isInstanceOf(AssertionError.class)
+                        .hasMessageContaining("goodbye");
+            }
+
             @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
             void testMultipartFormContains() throws IOException {
                 server.expect(RequestMatchers.entity().multipartFormContains(List.of(plainPart(), jsonPart()))).andRespond(withSuccess());
@@ -403,6 +488,23 @@ class EntityRequestMatchersTest {
                         .doesNotThrowAnyException();
             }
 
+            @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
+            void testMultipartForm_probe() throws IOException {
+                server.expect(request -> {
+                    assertProbe(request, RequestMatchers.entity().multipartForm(List.of(plainPart(), imagePart())), true);
+                    assertProbe(request, RequestMatchers.entity().multipartForm(List.of(plainPart())), false);
+                    assertProbe(request, RequestMatchers.entity().multipartFormContains(List.of(plainPart())), true);
+                    assertProbe(request, RequestMatchers.entity().multipartFormContains(List.of(jsonPart())), false);
+                }).andRespond(withSuccess());
+
+                assertThatCode(
+                        () -> client.target("/hello")
+                                .request()
+                                .post(toMultiPartEntity(plainPart(), imagePart()))
+                                .close())
+                        .doesNotThrowAnyException();
+            }
+
             @JaxRsVendorTest(skipFor = {JERSEY, RESTEASY_REACTIVE})
             void testMultipartFormContains_subsetIsLarger(FilterExceptionAssert filterExceptionAssert) throws IOException {
                 AtomicReference<PartsBuffer> partsBuffer = new AtomicReference<>();
@@ -1,13 +1,18 @@
 package io.github.solaris.jaxrs.client.test.request;
 
 import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static io.github.solaris.jaxrs.client.test.util.ProbeAssert.assertProbe;
+import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.STRING;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -61,6 +66,32 @@ class JsonPathRequestMatchersTest {
         assertThatCode(() -> client.target("/hello").request().post(Entity.json(dto)).close()).doesNotThrowAnyException();
     }
 
+    @JaxRsVendorTest
+    void testProbe() {
+        server.expect(request -> {
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).value(true), true);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).value(false), false);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).value(1), false);
+            assertProbe(request, RequestMatchers.jsonPath(NON_EXISTENT_PATH).value(true), false);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).exists(), true);
+            assertProbe(request, RequestMatchers.jsonPath(NON_EXISTENT_PATH).exists(), false);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).doesNotExist(), false);
+            assertProbe(request, RequestMatchers.jsonPath(NON_EXISTENT_PATH).doesNotExist(), true);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).hasJsonPath(), true);
+            assertProbe(request, RequestMatchers.jsonPath(NON_EXISTENT_PATH).hasJsonPath(), false);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).doesNotHaveJsonPath(), false);
+            assertProbe(request, RequestMatchers.jsonPath(NON_EXISTENT_PATH).doesNotHaveJsonPath(), true);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).isBoolean(), true);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).isString(), false);
+            assertProbe(request, RequestMatchers.jsonPath(DEFINITE_PATH).streaming().value(true), true);
+            assertProbe(request, RequestMatchers.jsonPath(NON_EXISTENT_PATH).streaming().exists(), false);
+        }).andRespond(withSuccess());
+
+        Dto dto = new Dto(true);
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.json(dto)).close()).doesNotThrowAnyException();
+    }
+
     @JaxRsVendorTest
     void testValue_indefinitePath() {
         server.expect(RequestMatchers.jsonPath(INDEFINITE_PATH).value(true)).andRespond(withSuccess());
@@ -729,6 +760,21 @@ class JsonPathRequestMatchersTest {
                 .hasMessage("Unable to load Jackson.");
     }
 
+    @JaxRsVendorTest
+    void testMultipleMatchers() {
+        server.expect(RequestMatchers.jsonPath(DEFINITE_PATH).exists())
+                .andExpect(RequestMatchers.jsonPath(DEFINITE_PATH).isMap())
+                .andExpect(RequestMatchers.jsonPath(DEFINITE_PATH).value(new Dto("hello")))
+                .andExpect(RequestMatchers.jsonPath(DEFINITE_PATH + ".something").value("hello"))
+                .andExpect(RequestMatchers.jsonPath(NON_EXISTENT_PATH).doesNotHaveJsonPath())
+                .andRespond(withSuccess());
+
+        Dto dto = new Dto(new Dto("hello"));
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.json(dto)).close())
+                .doesNotThrowAnyException();
+    }
+
     @JaxRsVendorTest
     void testInvalidJson(FilterExceptionAssert filterExceptionAssert) {
         server.expect(RequestMatchers.jsonPath(DEFINITE_PATH).exists()).andRespond(withSuccess());
@@ -738,6 +784,71 @@ class JsonPathRequestMatchersTest {
                 .hasMessageContaining("This is not a json object according to the JsonProvider:");
     }
 
+    @JaxRsVendorTest
+    void testStreaming() {
+        server.expect(RequestMatchers.jsonPath(DEFINITE_PATH).streaming().value(new Dto("hello")))
+                .andExpect(RequestMatchers.jsonPath(DEFINITE_PATH + ".something").streaming().value("hello"))
+                .andExpect(RequestMatchers.jsonPath("$['something']['something']").streaming().isString())
+                .andRespond(withSuccess());
+
+        Dto dto = new Dto(new Dto("hello"));
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.json(dto)).close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_arrayIndex() {
+        server.expect(RequestMatchers.jsonPath("$.something[1]").streaming().value(42)).andRespond(withSuccess());
+
+        Dto dto = new Dto(List.of(1, 42, 3));
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.json(dto)).close())
+                .doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_doesNotExist(FilterExceptionAssert filterExceptionAssert) {
+        server.expect(RequestMatchers.jsonPath(NON_EXISTENT_PATH).streaming().exists()).andRespond(withSuccess());
+
+        Dto dto = new Dto(true);
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello").request().post(Entity.json(dto)).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("Found no value for JSON path \"%s\"", NON_EXISTENT_PATH);
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_indefinitePath() {
+        server.expect(RequestMatchers.jsonPath(INDEFINITE_PATH).streaming().value(true)).andRespond(withSuccess());
+
+        Dto dto = new Dto(List.of(true));
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.json(dto)).close()).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_invalidJson(FilterExceptionAssert filterExceptionAssert) {
+        server.expect(RequestMatchers.jsonPath(DEFINITE_PATH).streaming().exists()).andRespond(withSuccess());
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello").request().post(Entity.json("<dto></dto>")).close())
+                .isInstanceOf(JsonPathException.class)
+                .hasMessageContaining("This is not a json object according to the JsonProvider:");
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_inputStream() {
+        server.expect(RequestMatchers.jsonPath(DEFINITE_PATH + ".something").streaming().value("hello"))
+                .andExpect(RequestMatchers.jsonPath("$['something']['something']").streaming().isString())
+                .andExpect(RequestMatchers.jsonPath(DEFINITE_PATH + ".something").value("hello"))
+                .andRespond(withSuccess());
+
+        InputStream entity = new ByteArrayInputStream("{\"something\":{\"something\":\"hello\"}}".getBytes(UTF_8));
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.entity(entity, APPLICATION_JSON_TYPE)).close())
+                .doesNotThrowAnyException();
+    }
+
     @JacksonFreeTest
     void testJacksonFreeClassLoader() {
         assertThat(getClass().getClassLoader().getName()).isEqualTo(JacksonFreeTest.CLASS_LOADER_NAME);
@@ -0,0 +1,55 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+class ObjectPoolTest {
+
+    @Test
+    void testBorrow_reusesReleasedObject() {
+        AtomicInteger created = new AtomicInteger();
+        ObjectPool<Object> pool = new ObjectPool<>(() -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+
+        Object first = pool.borrow();
+        pool.release(first);
+
+        assertThat(pool.borrow()).isSameAs(first);
+        assertThat(created).hasValue(1);
+    }
+
+    @Test
+    void testBorrow_createsObjectWhileOthersAreBorrowed() {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new);
+
+        assertThat(pool.borrow()).isNotSameAs(pool.borrow());
+    }
+
+    @Test
+    void testRelease_bounded() {
+        ObjectPool<Object> pool = new ObjectPool<>(Object::new);
+        int count = ObjectPool.MAX_IDLE * 2;
+
+        Set<Object> released = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (int i = 0; i < count; i++) {
+            released.add(pool.borrow());
+        }
+        released.forEach(pool::release);
+
+        int reused = 0;
+        for (int i = 0; i < count; i++) {
+            if (released.contains(pool.borrow())) {
+                reused++;
+            }
+        }
+        assertThat(reused).isEqualTo(ObjectPool.MAX_IDLE);
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static io.github.solaris.jaxrs.client.test.request.PartBuffer.SPILL_THRESHOLD;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class PartBufferTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, SPILL_THRESHOLD - 1, SPILL_THRESHOLD})
+    void testRead_onHeap(int size) throws IOException {
+        byte[] content = randomBytes(size);
+
+        PartBuffer buffer = PartBuffer.read(new ByteArrayInputStream(content));
+
+        assertThat(buffer.getHeapBuffer()).isEqualTo(content);
+        assertThat(buffer.size()).isEqualTo(size);
+        assertContent(buffer, content);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {SPILL_THRESHOLD + 1, 3 * SPILL_THRESHOLD + 7})
+    void testRead_spilled(int size) throws IOException {
+        byte[] content = randomBytes(size);
+
+        PartBuffer buffer = PartBuffer.read(new ByteArrayInputStream(content));
+
+        assertThat(buffer.getHeapBuffer()).isNull();
+        assertThat(buffer.size()).isEqualTo(size);
+        assertContent(buffer, content);
+    }
+
+    @Test
+    void testContentEquals() throws IOException {
+        byte[] content = randomBytes(SPILL_THRESHOLD + 1);
+        byte[] otherContent = content.clone();
+        otherContent[SPILL_THRESHOLD] ^= 1;
+
+        PartBuffer buffer = PartBuffer.read(new ByteArrayInputStream(content));
+        PartBuffer equalBuffer = PartBuffer.read(new ByteArrayInputStream(content));
+        PartBuffer otherBuffer = PartBuffer.read(new ByteArrayInputStream(otherContent));
+
+        assertThat(buffer.contentEquals(equalBuffer)).isTrue();
+        assertThat(buffer.contentHashCode()).isEqualTo(equalBuffer.contentHashCode());
+        assertThat(buffer.contentEquals(otherBuffer)).isFalse();
+    }
+
+    @Test
+    void testGetDigest() throws IOException {
+        PartBuffer buffer = PartBuffer.read(new ByteArrayInputStream("hello".getBytes(UTF_8)));
+
+        assertThat(buffer.getDigest()).isEqualTo("2cf24dba5fb0a30e26e83b2ac5b9e29e1b161e5c1fa7425e73043362938b9824");
+    }
+
+    private static void assertContent(PartBuffer buffer, byte[] expectedContent) throws IOException {
+        for (int i = 0; i < 2; i++) {
+            try (InputStream inputStream = buffer.newInputStream()) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(expectedContent);
+            }
+        }
+    }
+
+    private static byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return bytes;
+    }
+}
@@ -3,13 +3,16 @@ package io.github.solaris.jaxrs.client.test.request;
 import static jakarta.ws.rs.HttpMethod.HEAD;
 import static jakarta.ws.rs.HttpMethod.PATCH;
 import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
+import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_XML;
 import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.util.List;
@@ -314,6 +317,17 @@ class RequestMatchersTest {
                 .hasMessage("Expected header <%s> to not exist, but it exists with values: %s", ACCEPT, headers.get(ACCEPT));
     }
 
+    @ParameterizedTest
+    @MethodSource("probes")
+    void testProbe(RequestMatcher matcher, MockClientRequestContext request, boolean expected) throws IOException {
+        assertThat(matcher.test(request)).isEqualTo(expected);
+        if (expected) {
+            assertThatCode(() -> matcher.match(request)).doesNotThrowAnyException();
+        } else {
+            assertThatThrownBy(() -> matcher.match(request)).isInstanceOf(AssertionError.class);
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("invalidArguments")
     void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
@@ -322,6 +336,38 @@ class RequestMatchersTest {
                 .hasMessage(exceptionMessage);
     }
 
+    private static Stream<Arguments> probes() {
+        MultivaluedMap<String, String> headers = new MultivaluedHashMap<>();
+        headers.put(ACCEPT, List.of(APPLICATION_JSON, APPLICATION_XML));
+        URI uri = URI.create("local.host?greeting=hello&greeting=salutations");
+
+        return Stream.of(
+                argumentSet("method", RequestMatchers.method(PATCH), new MockClientRequestContext(PATCH), true),
+                argumentSet("method_noMatch", RequestMatchers.method(HEAD), new MockClientRequestContext(PATCH), false),
+                argumentSet("requestTo", RequestMatchers.requestTo("local.host"), new MockClientRequestContext(URI.create("local.host")), true),
+                argumentSet("requestTo_noMatch", RequestMatchers.requestTo("local.host"), new MockClientRequestContext(URI.create("remote.host")), false),
+                argumentSet("queryParam", RequestMatchers.queryParam("greeting", "hello"), new MockClientRequestContext(uri), true),
+                argumentSet("queryParam_paramMissing", RequestMatchers.queryParam("sendoff"), new MockClientRequestContext(uri), false),
+                argumentSet("queryParam_countMismatch",
+                        RequestMatchers.queryParam("greeting", "hello", "salutations", "greetings"), new MockClientRequestContext(uri), false),
+                argumentSet("queryParam_orderMismatch",
+                        RequestMatchers.queryParam("greeting", "salutations", "hello"), new MockClientRequestContext(uri), false),
+                argumentSet("queryParamDoesNotExist", RequestMatchers.queryParamDoesNotExist("sendoff"), new MockClientRequestContext(uri), true),
+                argumentSet("queryParamDoesNotExist_exists", RequestMatchers.queryParamDoesNotExist("greeting"), new MockClientRequestContext(uri), false),
+                argumentSet("queryParamCount", RequestMatchers.queryParamCount(1), new MockClientRequestContext(uri), true),
+                argumentSet("queryParamCount_countMismatch", RequestMatchers.queryParamCount(2), new MockClientRequestContext(uri), false),
+                argumentSet("header", RequestMatchers.header(ACCEPT, APPLICATION_JSON), new MockClientRequestContext(headers), true),
+                argumentSet("header_headerMissing", RequestMatchers.header(CONTENT_TYPE), new MockClientRequestContext(headers), false),
+                argumentSet("header_valueMismatch", RequestMatchers.header(ACCEPT, APPLICATION_XML), new MockClientRequestContext(headers), false),
+                argumentSet("headerDoesNotExist", RequestMatchers.headerDoesNotExist(CONTENT_TYPE), new MockClientRequestContext(headers), true),
+                argumentSet("headerDoesNotExist_exists", RequestMatchers.headerDoesNotExist(ACCEPT), new MockClientRequestContext(headers), false),
+                argumentSet("custom", (RequestMatcher) request -> {}, new MockClientRequestContext(), true),
+                argumentSet("custom_noMatch", (RequestMatcher) request -> {
+                    throw new AssertionError("No match.");
+                }, new MockClientRequestContext(), false)
+        );
+    }
+
     @SuppressWarnings("DataFlowIssue")
     private static Stream<Arguments> invalidArguments() {
         return Stream.of(
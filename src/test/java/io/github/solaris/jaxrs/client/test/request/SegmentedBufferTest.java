@@ -0,0 +1,48 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Random;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class SegmentedBufferTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 8 * 1024, 8 * 1024 + 1, 5 * 1024 * 1024 + 7})
+    void testWriteAndRead(int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+
+        SegmentedBuffer buffer = new SegmentedBuffer();
+        buffer.write(content, 0, size / 2);
+        for (int i = size / 2; i < Math.min(size, size / 2 + 3); i++) {
+            buffer.write(content[i]);
+        }
+        int written = Math.min(size, size / 2 + 3);
+        buffer.write(content, written, size - written);
+
+        try (InputStream inputStream = buffer.toInputStream()) {
+            assertThat(inputStream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 100, 16 * 1024})
+    void testReadRepeatedly(int size) throws IOException {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+
+        SegmentedBuffer buffer = new SegmentedBuffer();
+        buffer.write(content);
+
+        for (int i = 0; i < 2; i++) {
+            try (InputStream inputStream = buffer.toInputStream()) {
+                assertThat(inputStream.readAllBytes()).isEqualTo(content);
+            }
+        }
+    }
+}
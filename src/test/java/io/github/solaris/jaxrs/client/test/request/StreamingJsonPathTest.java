@@ -0,0 +1,73 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import com.jayway.jsonpath.PathNotFoundException;
+
+class StreamingJsonPathTest {
+    private static final String JSON = """
+            {
+              "header": {"id": 42, "name": "a \\"quoted\\" name"},
+              "skipped": [{"nested": [1, 2, {"deeper": null}]}, "\\u00e4", true, -1.5e3],
+              "items": [{"id": "first"}, {"id": "second", "tags": ["a", "b"]}]
+            }""";
+
+    @ParameterizedTest
+    @ValueSource(strings = {"$..id", "$.items[*]", "$.items[0,1]", "$.items[-1]", "$.items[0:1]", "$.items[?(@.id)]", "$.items.length()", "items"})
+    void testCompile_unsupported(String expression) {
+        assertThat(StreamingJsonPath.compile(expression)).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+            "$.header.id                   | 42",
+            "$['header']['name']           | \"a \\\"quoted\\\" name\"",
+            "$.items[1].id                 | \"second\"",
+            "$.items[1].tags               | [\"a\", \"b\"]",
+            "$.skipped[0].nested[2].deeper | null",
+            "$.skipped[3]                  | -1.5e3",
+    })
+    void testEvaluate(String expression, String expectedValue) throws IOException {
+        StreamingJsonPath streamingJsonPath = StreamingJsonPath.compile(expression);
+
+        assertThat(streamingJsonPath).isNotNull();
+        assertThat(streamingJsonPath.evaluate(new StringReader(JSON))).isEqualTo(expectedValue);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"$.header.id.value", "$.header[0]", "$.items[5]", "$.items.id"})
+    void testEvaluate_unexpectedStructure(String expression) throws IOException {
+        StreamingJsonPath streamingJsonPath = StreamingJsonPath.compile(expression);
+
+        assertThat(streamingJsonPath).isNotNull();
+        assertThat(streamingJsonPath.evaluate(new StringReader(JSON))).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"$.missing", "$.header.missing", "$.items[0].missing.id"})
+    void testEvaluate_missingProperty(String expression) {
+        StreamingJsonPath streamingJsonPath = StreamingJsonPath.compile(expression);
+
+        assertThat(streamingJsonPath).isNotNull();
+        assertThatThrownBy(() -> streamingJsonPath.evaluate(new StringReader(JSON)))
+                .isInstanceOf(PathNotFoundException.class)
+                .hasMessage("No results for path: " + expression);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"<dto></dto>", "{\"header\": ", "{\"header\" {}}"})
+    void testEvaluate_malformedJson(String json) throws IOException {
+        StreamingJsonPath streamingJsonPath = StreamingJsonPath.compile("$.header.id");
+
+        assertThat(streamingJsonPath).isNotNull();
+        assertThat(streamingJsonPath.evaluate(new StringReader(json))).isNull();
+    }
+}
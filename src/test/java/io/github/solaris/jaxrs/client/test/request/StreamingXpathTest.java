@@ -0,0 +1,113 @@
+package io.github.solaris.jaxrs.client.test.request;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.StringReader;
+import java.util.Map;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class StreamingXpathTest {
+    private static final String XML = """
+            <order id='1'>
+                <item type='book'><item type='nested'/></item>
+                <item type='film'/>
+                <item/>
+                <note><item type='book'/></note>
+            </order>""";
+
+    private static final Map<String, String> NAMESPACES = Map.of("o", "urn:order");
+
+    @ParameterizedTest
+    @ValueSource(strings = {"order", "//item", "/order//item", "/order/item[1]", "/order/item/@type", "/order/item/text()", "/order/item[@type!='a']",
+            "/order/../order", "/order/item[@type='a' or @type='b']", "/order/o:item", "string(/order)"})
+    void testCompile_unsupported(String expression) {
+        assertThat(StreamingXpath.compile(expression, Map.of())).isNull();
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', quoteCharacter = '`', value = {
+            "/order                          | 1",
+            "/order/item                     | 3",
+            "/order/item[@type]              | 2",
+            "/order/item[@type=\"book\"]     | 1",
+            "/order/item[@type][@type='film']| 1",
+            "/order/*/item                   | 2",
+            "/order/item/item[@type='nested']| 1",
+            "/order[@id='2']/item            | 0",
+            "/item                           | 0",
+    })
+    void testCountMatches(String expression, int expectedCount) throws XMLStreamException {
+        StreamingXpath streamingXpath = StreamingXpath.compile(expression, Map.of());
+
+        assertThat(streamingXpath).isNotNull();
+        assertThat(streamingXpath.isCount()).isFalse();
+        assertThat(streamingXpath.countMatches(createReader(XML, false), Integer.MAX_VALUE)).isEqualTo(expectedCount);
+    }
+
+    @Test
+    void testCountMatches_limit() throws XMLStreamException {
+        StreamingXpath streamingXpath = StreamingXpath.compile("/order/item", Map.of());
+
+        assertThat(streamingXpath).isNotNull();
+        assertThat(streamingXpath.countMatches(createReader(XML, false), 1)).isOne();
+    }
+
+    @Test
+    void testCountMatches_limitTruncatedDocument() {
+        StreamingXpath streamingXpath = StreamingXpath.compile("/order/item", Map.of());
+
+        assertThat(streamingXpath).isNotNull();
+        assertThatThrownBy(() -> streamingXpath.countMatches(createReader("<order><item/><item>", false), 1))
+                .isInstanceOf(XMLStreamException.class);
+    }
+
+    @Test
+    void testCountMatches_countFunction() throws XMLStreamException {
+        StreamingXpath streamingXpath = StreamingXpath.compile(" count( /order/item ) ", Map.of());
+
+        assertThat(streamingXpath).isNotNull();
+        assertThat(streamingXpath.isCount()).isTrue();
+        assertThat(streamingXpath.countMatches(createReader(XML, false), Integer.MAX_VALUE)).isEqualTo(3);
+    }
+
+    @Test
+    void testCountMatches_namespaces() throws XMLStreamException {
+        String xml = "<o:order xmlns:o='urn:order' xmlns='urn:other'><o:item/><item/><o:item/></o:order>";
+        StreamingXpath streamingXpath = StreamingXpath.compile("/o:order/o:item", NAMESPACES);
+
+        assertThat(streamingXpath).isNotNull();
+        assertThat(streamingXpath.countMatches(createReader(xml, true), Integer.MAX_VALUE)).isEqualTo(2);
+    }
+
+    @Test
+    void testCountMatches_prefixedNamesWithoutNamespaces() throws XMLStreamException {
+        StreamingXpath streamingXpath = StreamingXpath.compile("/order/item", Map.of());
+
+        assertThat(streamingXpath).isNotNull();
+        assertThat(streamingXpath.countMatches(createReader("<o:order xmlns:o='urn:order'><o:item/></o:order>", false), Integer.MAX_VALUE)).isNull();
+    }
+
+    @Test
+    void testCountMatches_dtd() throws XMLStreamException {
+        StreamingXpath streamingXpath = StreamingXpath.compile("/order", Map.of());
+
+        assertThat(streamingXpath).isNotNull();
+        assertThat(streamingXpath.countMatches(createReader("<!DOCTYPE order><order/>", false), Integer.MAX_VALUE)).isNull();
+    }
+
+    private static XMLStreamReader createReader(String xml, boolean namespaceAware) throws XMLStreamException {
+        XMLInputFactory factory = XMLInputFactory.newDefaultFactory();
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, namespaceAware);
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        return factory.createXMLStreamReader(new StringReader(xml));
+    }
+}
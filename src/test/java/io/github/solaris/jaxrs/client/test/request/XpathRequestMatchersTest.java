@@ -1,6 +1,8 @@
 package io.github.solaris.jaxrs.client.test.request;
 
+import static io.github.solaris.jaxrs.client.test.request.ExpectedCount.times;
 import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static io.github.solaris.jaxrs.client.test.util.ProbeAssert.assertProbe;
 import static jakarta.ws.rs.core.HttpHeaders.CONTENT_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_XML;
 import static jakarta.ws.rs.core.Response.Status.OK;
@@ -16,9 +18,13 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.net.InetSocketAddress;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import javax.xml.transform.TransformerException;
@@ -376,6 +382,160 @@ class XpathRequestMatchersTest {
                 .hasRootCauseMessage("UnSupported Return Type : %s", XmlDto.class);
     }
 
+    @JaxRsVendorTest
+    void testStreaming() throws XPathExpressionException {
+        server.expect(RequestMatchers.xpath("/xmlDto").streaming().exists())
+                .andExpect(RequestMatchers.xpath("/xmlDto/nodes/node").streaming().nodeCount(2))
+                .andExpect(RequestMatchers.xpath("count(/xmlDto/nodes/*)").streaming().number(2.0))
+                .andExpect(RequestMatchers.xpath("/xmlDto/missing").streaming().doesNotExist())
+                .andRespond(withSuccess());
+
+        XmlDto xmlDto = new XmlDto();
+        xmlDto.nodes = List.of("hello", "goodbye");
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.xml(xmlDto)).close()).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_attributePredicate() throws XPathExpressionException {
+        Map<String, String> namespaces = Map.of("", "urn:jax-rs.client.test");
+        server.expect(RequestMatchers.xpath("/xmlDto/greeting[@xml:lang='en']", namespaces).streaming().nodeCount(1))
+                .andExpect(RequestMatchers.xpath("/xmlDto/greeting[@xml:lang]", namespaces).streaming().nodeCount(2))
+                .andExpect(RequestMatchers.xpath("/xmlDto/greeting[@xml:lang='fr']", namespaces).streaming().doesNotExist())
+                .andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.xml(ATTRIBUTE_IN_XML_NAMESPACE)).close()).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_namespaces() throws XPathExpressionException {
+        Map<String, String> namespaces = Map.of(
+                "", "urn:jax-rs.client.test",
+                "other", "urn:jax-ws.client.test"
+        );
+        server.expect(RequestMatchers.xpath("/:xmlDto/other:greeting", namespaces).streaming().exists())
+                .andExpect(RequestMatchers.xpath("/:xmlDto/greeting", namespaces).streaming().doesNotExist())
+                .andRespond(withSuccess());
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.xml(CHILD_IN_DIFFERENT_NS)).close()).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_doesNotExist(FilterExceptionAssert filterExceptionAssert) throws XPathExpressionException {
+        server.expect(RequestMatchers.xpath("/xmlDto/nodes/node").streaming().nodeCount(1)).andRespond(withSuccess());
+
+        XmlDto xmlDto = new XmlDto();
+        xmlDto.nodes = List.of("hello", "goodbye");
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello").request().post(Entity.xml(xmlDto)).close())
+                .isInstanceOf(AssertionError.class)
+                .hasMessage("NodeCount for XPath /xmlDto/nodes/node expected: <1> but was: <2>");
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_unsupportedExpression() throws XPathExpressionException {
+        server.expect(RequestMatchers.xpath("//node[text()='goodbye']").streaming().exists())
+                .andExpect(RequestMatchers.xpath("/xmlDto/str").streaming().string("hello"))
+                .andRespond(withSuccess());
+
+        XmlDto xmlDto = new XmlDto();
+        xmlDto.str = "hello";
+        xmlDto.nodes = List.of("hello", "goodbye");
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.xml(xmlDto)).close()).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_invalidXml(FilterExceptionAssert filterExceptionAssert) throws XPathExpressionException {
+        server.expect(RequestMatchers.xpath("/xmlDto").streaming().exists()).andRespond(withSuccess());
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello").request().post(Entity.xml("{\"something\": false}")).close())
+                .isInstanceOf(AssertionError.class)
+                .cause()
+                .isInstanceOf(SAXParseException.class)
+                .hasMessage("Content is not allowed in prolog.");
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_truncatedXml(FilterExceptionAssert filterExceptionAssert) throws XPathExpressionException {
+        server.expect(RequestMatchers.xpath("/xmlDto/nodes").streaming().exists()).andRespond(withSuccess());
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("/hello").request().post(Entity.xml("<xmlDto><nodes/><nodes>")).close())
+                .isInstanceOf(AssertionError.class)
+                .cause()
+                .isInstanceOf(SAXParseException.class)
+                .hasMessage("XML document structures must start and end within the same entity.");
+    }
+
+    @JaxRsVendorTest
+    void testStreaming_doctypeDeclDisallowed(FilterExceptionAssert filterExceptionAssert) throws XPathExpressionException {
+        server.expect(RequestMatchers.xpath("/lolz").streaming().exists()).andRespond(withSuccess());
+
+        filterExceptionAssert.assertThatThrownBy(() -> client.target("").request().post(Entity.xml(LOL_BOMB)).close())
+                .isInstanceOf(AssertionError.class)
+                .cause()
+                .isInstanceOf(SAXParseException.class)
+                .hasMessageEndingWith(
+                        "DOCTYPE is disallowed when the feature \"http://apache.org/xml/features/disallow-doctype-decl\" set to true."
+                );
+    }
+
+    @JaxRsVendorTest
+    void testProbe() {
+        server.expect(request -> {
+            try {
+                assertProbe(request, RequestMatchers.xpath("/xmlDto").exists(), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/missing").exists(), false);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/missing").doesNotExist(), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/nodes/node").nodeCount(2), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/nodes/node").nodeCount(1), false);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/str").string("hello"), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/str").string("goodbye"), false);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/num").number(42.0), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/num").number(43.0), false);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/bool").booleanValue(true), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/bool").booleanValue(false), false);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/nodes/node").streaming().nodeCount(2), true);
+                assertProbe(request, RequestMatchers.xpath("/xmlDto/missing").streaming().exists(), false);
+            } catch (XPathExpressionException e) {
+                throw new IllegalStateException(e);
+            }
+        }).andRespond(withSuccess());
+
+        XmlDto xmlDto = new XmlDto();
+        xmlDto.bool = true;
+        xmlDto.str = "hello";
+        xmlDto.num = 42.0;
+        xmlDto.nodes = List.of("hello", "goodbye");
+
+        assertThatCode(() -> client.target("/hello").request().post(Entity.xml(xmlDto)).close()).doesNotThrowAnyException();
+    }
+
+    @JaxRsVendorTest
+    void testConcurrentRequests() throws Exception {
+        int requestCount = 100;
+        server.expect(times(requestCount), RequestMatchers.xpath("/xmlDto").exists())
+                .andExpect(RequestMatchers.xpath("/xmlDto/str").string("hello"))
+                .andExpect(RequestMatchers.xpath("/xmlDto/num").number(42.0))
+                .andRespond(withSuccess());
+
+        XmlDto xmlDto = new XmlDto();
+        xmlDto.str = "hello";
+        xmlDto.num = 42.0;
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < requestCount; i++) {
+                futures.add(executor.submit(() -> client.target("/hello").request().post(Entity.xml(xmlDto)).close()));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThatCode(server::verify).doesNotThrowAnyException();
+    }
+
     @JaxRsVendorTest
     void testInvalidXml(FilterExceptionAssert filterExceptionAssert) throws XPathExpressionException {
         server.expect(RequestMatchers.xpath("/xmlDto").exists()).andRespond(withSuccess());
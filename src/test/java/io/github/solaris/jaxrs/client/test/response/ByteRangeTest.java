@@ -0,0 +1,50 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class ByteRangeTest {
+    private static final long LENGTH = 10;
+
+    @ParameterizedTest
+    @CsvSource({
+            "bytes=0-4, 0, 4",
+            "bytes=5-, 5, 9",
+            "bytes=5-100, 5, 9",
+            "bytes=-3, 7, 9",
+            "bytes=-20, 0, 9",
+            "Bytes=2-2, 2, 2",
+            "bytes=0-99999999999999999999, 0, 9"
+    })
+    void testParse(String header, long first, long last) {
+        assertThat(ByteRange.parse(header, LENGTH)).isEqualTo(new ByteRange(first, last));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"bytes=10-", "bytes=10-20", "bytes=-0"})
+    void testParse_unsatisfiable(String header) {
+        assertThat(ByteRange.parse(header, LENGTH)).isSameAs(ByteRange.UNSATISFIABLE);
+    }
+
+    @Test
+    void testParse_unsatisfiable_emptyContent() {
+        assertThat(ByteRange.parse("bytes=-5", 0)).isSameAs(ByteRange.UNSATISFIABLE);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "bytes=", "bytes=-", "bytes=4-2", "bytes=a-b", "bytes=0-1,4-5", "items=0-1", "bytes=+1-2"})
+    void testParse_ignored(String header) {
+        assertThat(ByteRange.parse(header, LENGTH)).isNull();
+    }
+
+    @Test
+    void testToContentRange() {
+        assertThat(new ByteRange(2, 5).toContentRange(LENGTH)).isEqualTo("bytes 2-5/10");
+        assertThat(new ByteRange(2, 5).length()).isEqualTo(4);
+        assertThat(ByteRange.UNSATISFIABLE.toContentRange(LENGTH)).isEqualTo("bytes */10");
+    }
+}
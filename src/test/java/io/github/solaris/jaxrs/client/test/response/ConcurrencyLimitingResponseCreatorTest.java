@@ -0,0 +1,130 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.ExpectedCount.times;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withConcurrencyLimit;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ConcurrencyLimitingResponseCreatorTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final VirtualClock clock = new VirtualClock();
+
+    @JaxRsVendorTest
+    void testConcurrencyLimit() throws Exception {
+        ConcurrencyLimitingResponseCreator bulkhead = withConcurrencyLimit(withSuccess(), 2).holdFor(Duration.ofSeconds(1)).clock(clock);
+
+        Callable<Response.Status> request = () -> {
+            try (Response response = bulkhead.createResponse(new MockClientRequestContext())) {
+                return response.getStatusInfo().toEnum();
+            }
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<Response.Status> first = executor.submit(request);
+            Future<Response.Status> second = executor.submit(request);
+            assertThat(clock.awaitSleepers(2, TIMEOUT)).isTrue();
+
+            assertThat(request.call()).isEqualTo(SERVICE_UNAVAILABLE);
+            assertThat(bulkhead.inFlightRequests()).isEqualTo(2);
+
+            clock.advance(Duration.ofSeconds(1));
+            assertThat(first).succeedsWithin(TIMEOUT).isEqualTo(OK);
+            assertThat(second).succeedsWithin(TIMEOUT).isEqualTo(OK);
+        }
+
+        assertThat(bulkhead.inFlightRequests()).isZero();
+        assertThat(bulkhead.peakConcurrency()).isEqualTo(3);
+        assertThat(bulkhead.rejectedRequests()).isEqualTo(1);
+    }
+
+    @JaxRsVendorTest
+    void testSequentialRequests() throws IOException {
+        ConcurrencyLimitingResponseCreator bulkhead = withConcurrencyLimit(withSuccess(), 1);
+
+        for (int i = 0; i < 3; i++) {
+            try (Response response = bulkhead.createResponse(new MockClientRequestContext())) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+        }
+
+        assertThat(bulkhead.peakConcurrency()).isOne();
+        assertThat(bulkhead.rejectedRequests()).isZero();
+    }
+
+    @JaxRsVendorTest
+    void testBoundClient() throws InterruptedException {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        ConcurrencyLimitingResponseCreator bulkhead = withConcurrencyLimit(withSuccess(), 1).holdFor(Duration.ofSeconds(1)).clock(clock);
+        server.expect(times(2), anything()).andRespond(bulkhead);
+
+        try (client) {
+            Future<Response> held = client.target("").request().async().get();
+            assertThat(clock.awaitSleepers(1, TIMEOUT)).isTrue();
+
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(SERVICE_UNAVAILABLE);
+            }
+
+            clock.advance(Duration.ofSeconds(1));
+            assertThat(held)
+                    .succeedsWithin(TIMEOUT)
+                    .satisfies(response -> assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK));
+        }
+
+        assertThat(bulkhead.peakConcurrency()).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testConcurrencyLimit_responseCreator_null",
+                        (ThrowingCallable) () -> withConcurrencyLimit(null, 1), "'responseCreator' must not be null."),
+                argumentSet("testConcurrencyLimit_maxConcurrentRequests_zero",
+                        (ThrowingCallable) () -> withConcurrencyLimit(withSuccess(), 0), "'maxConcurrentRequests' must be >= 1"),
+                argumentSet("testHoldFor_null",
+                        (ThrowingCallable) () -> withConcurrencyLimit(withSuccess(), 1).holdFor(null), "'holdTime' must not be null."),
+                argumentSet("testHoldFor_negative",
+                        (ThrowingCallable) () -> withConcurrencyLimit(withSuccess(), 1).holdFor(Duration.ofSeconds(-1)),
+                        "'holdTime' must not be negative"),
+                argumentSet("testClock_null",
+                        (ThrowingCallable) () -> withConcurrencyLimit(withSuccess(), 1).clock(null), "'clock' must not be null.")
+        );
+    }
+}
@@ -0,0 +1,80 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class LatencyTest {
+
+    @Test
+    void testFixed() {
+        Latency latency = Latency.fixed(Duration.ofMillis(42));
+
+        assertThat(latency.next()).isEqualTo(Duration.ofMillis(42));
+        assertThat(latency.next()).isEqualTo(Duration.ofMillis(42));
+    }
+
+    @Test
+    void testUniform() {
+        Latency latency = Latency.uniform(Duration.ofMillis(10), Duration.ofMillis(20));
+
+        assertThat(IntStream.range(0, 1000).mapToObj(_ -> latency.next()))
+                .allSatisfy(delay -> assertThat(delay).isBetween(Duration.ofMillis(10), Duration.ofMillis(20)));
+    }
+
+    @Test
+    void testUniform_seeded() {
+        Latency latency = Latency.uniform(Duration.ZERO, Duration.ofSeconds(1), 42);
+        Latency sameSeed = Latency.uniform(Duration.ZERO, Duration.ofSeconds(1), 42);
+
+        for (int i = 0; i < 10; i++) {
+            assertThat(latency.next()).isEqualTo(sameSeed.next());
+        }
+    }
+
+    @Test
+    void testPercentiles() {
+        Latency latency = Latency.percentiles(Duration.ofMillis(50), Duration.ofMillis(500), 42);
+
+        long[] samples = IntStream.range(0, 100_000).mapToLong(_ -> latency.next().toNanos()).sorted().toArray();
+
+        assertThat(Duration.ofNanos(samples[50_000])).isBetween(Duration.ofMillis(48), Duration.ofMillis(52));
+        assertThat(Duration.ofNanos(samples[99_000])).isBetween(Duration.ofMillis(460), Duration.ofMillis(540));
+        assertThat(Arrays.stream(samples)).allSatisfy(sample -> assertThat(sample).isPositive());
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testFixed_null",
+                        (ThrowingCallable) () -> Latency.fixed(null), "'duration' must not be null."),
+                argumentSet("testFixed_negative",
+                        (ThrowingCallable) () -> Latency.fixed(Duration.ofMillis(-1)), "'duration' must not be negative"),
+                argumentSet("testUniform_maxLessThanMin",
+                        (ThrowingCallable) () -> Latency.uniform(Duration.ofMillis(2), Duration.ofMillis(1)), "'max' must be >= 'min'"),
+                argumentSet("testPercentiles_p50Zero",
+                        (ThrowingCallable) () -> Latency.percentiles(Duration.ZERO, Duration.ofMillis(1)), "'p50' must be > 0"),
+                argumentSet("testPercentiles_p99LessThanP50",
+                        (ThrowingCallable) () -> Latency.percentiles(Duration.ofMillis(2), Duration.ofMillis(1)), "'p99' must be >= 'p50'")
+        );
+    }
+}
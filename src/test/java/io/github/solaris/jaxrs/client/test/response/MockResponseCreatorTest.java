@@ -1,6 +1,8 @@
 package io.github.solaris.jaxrs.client.test.response;
 
+import static io.github.solaris.jaxrs.client.test.request.ExpectedCount.times;
 import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.JERSEY;
 import static jakarta.ws.rs.core.HttpHeaders.ACCEPT;
 import static jakarta.ws.rs.core.HttpHeaders.ACCEPT_ENCODING;
 import static jakarta.ws.rs.core.HttpHeaders.ACCEPT_LANGUAGE;
@@ -12,6 +14,7 @@ import static jakarta.ws.rs.core.HttpHeaders.VARY;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_XML_TYPE;
 import static jakarta.ws.rs.core.MediaType.TEXT_HTML;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
 import static jakarta.ws.rs.core.MediaType.WILDCARD;
 import static jakarta.ws.rs.core.NewCookie.SameSite.NONE;
 import static jakarta.ws.rs.core.NewCookie.SameSite.STRICT;
@@ -30,11 +33,14 @@ import static org.assertj.core.api.InstanceOfAssertFactories.LIST;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.Year;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.Future;
 import java.util.stream.Stream;
 
 import jakarta.ws.rs.client.Client;
@@ -218,6 +224,120 @@ class MockResponseCreatorTest {
         }
     }
 
+    @JaxRsVendorTest
+    void testRespondWithEntity_cached() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        String json = "{\"foo\": true}";
+        NewCookie cookie = new NewCookie.Builder("session-token").value("123456").build();
+
+        server.expect(times(3), anything())
+                .andRespond(new MockResponseCreator(OK).entity(json).mediaType(APPLICATION_JSON_TYPE).header(ETAG, "\"v1\"").cookies(cookie).cached());
+
+        try (client) {
+            for (int i = 0; i < 3; i++) {
+                try (Response response = client.target("").request().get()) {
+                    assertThat(response.getMediaType()).isEqualTo(APPLICATION_JSON_TYPE);
+                    assertThat(response.getEntityTag()).isEqualTo(new EntityTag("v1"));
+                    assertThat(response.getCookies()).containsEntry("session-token", cookie);
+                    assertThat(response.readEntity(String.class)).isEqualTo(json);
+                }
+            }
+        }
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithEntity_cached_modified() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        MockResponseCreator responseCreator = new MockResponseCreator(OK).entity("hello").cached();
+        server.expect(times(2), anything()).andRespond(responseCreator);
+
+        try (client) {
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.readEntity(String.class)).isEqualTo("hello");
+            }
+
+            responseCreator.entity("goodbye");
+
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.readEntity(String.class)).isEqualTo("goodbye");
+            }
+        }
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithStreamingBody() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        server.expect(times(2), anything())
+                .andRespond(new MockResponseCreator(OK).entity(StreamingBodies.repeating("abc", 10)).mediaType(TEXT_PLAIN_TYPE));
+
+        try (client) {
+            for (int i = 0; i < 2; i++) {
+                try (Response response = client.target("").request().get()) {
+                    assertThat(response.getLength()).isEqualTo(10);
+                    assertThat(response.readEntity(String.class)).isEqualTo("abcabcabca");
+                }
+            }
+        }
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithStreamingBody_unknownLength() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        server.expect(anything())
+                .andRespond(new MockResponseCreator(OK).entity(StreamingBodies.jsonArray(2, index -> "{\"id\":" + index + "}")).mediaType(APPLICATION_JSON_TYPE).cached());
+
+        try (client) {
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.getLength()).isEqualTo(-1);
+                assertThat(response.readEntity(String.class)).isEqualTo("[{\"id\":0},{\"id\":1}]");
+            }
+        }
+    }
+
+    // Jersey buffers the whole entity of an aborted request, which fails for bodies larger than 2 GB
+    @JaxRsVendorTest(skipFor = JERSEY)
+    void testRespondWithStreamingBody_unbounded() throws IOException {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        server.expect(anything())
+                .andRespond(new MockResponseCreator(OK).entity(StreamingBodies.repeating("x", Long.MAX_VALUE)).mediaType(TEXT_PLAIN_TYPE));
+
+        try (client; Response response = client.target("").request().get(); InputStream entity = response.readEntity(InputStream.class)) {
+            assertThat(entity.readNBytes(5)).isEqualTo("xxxxx".getBytes(UTF_8));
+        }
+    }
+
+    @JaxRsVendorTest
+    void testRespondWithDelay() throws InterruptedException {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        VirtualClock clock = new VirtualClock();
+        server.expect(anything()).andRespond(new MockResponseCreator(OK).delay(Duration.ofSeconds(30)).clock(clock));
+
+        try (client) {
+            Future<Response> responseFuture = client.target("").request().async().get();
+
+            assertThat(clock.awaitSleepers(1, Duration.ofSeconds(5))).isTrue();
+            clock.advance(Duration.ofSeconds(29));
+            assertThat(responseFuture).isNotDone();
+
+            clock.advance(Duration.ofSeconds(1));
+            assertThat(responseFuture)
+                    .succeedsWithin(Duration.ofSeconds(5))
+                    .satisfies(response -> assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK));
+        }
+    }
+
     @ParameterizedTest
     @MethodSource("invalidArguments")
     void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
@@ -240,7 +360,13 @@ class MockResponseCreatorTest {
                 argumentSet("testLinks_null",
                         (ThrowingCallable) () -> new MockResponseCreator(OK).links((Link[]) null), "'links' must not be null."),
                 argumentSet("testVariants_null",
-                        (ThrowingCallable) () -> new MockResponseCreator(OK).variants((Variant[]) null), "'variants' must not be null.")
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).variants((Variant[]) null), "'variants' must not be null."),
+                argumentSet("testDelay_duration_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).delay((Duration) null), "'delay' must not be null."),
+                argumentSet("testDelay_latency_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).delay((Latency) null), "'latency' must not be null."),
+                argumentSet("testClock_null",
+                        (ThrowingCallable) () -> new MockResponseCreator(OK).clock(null), "'clock' must not be null.")
                 );
     }
 }
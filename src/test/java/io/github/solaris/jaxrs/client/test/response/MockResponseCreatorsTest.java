@@ -4,6 +4,7 @@ import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anythi
 import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.CXF;
 import static jakarta.ws.rs.core.HttpHeaders.RETRY_AFTER;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
 import static jakarta.ws.rs.core.Response.Status.ACCEPTED;
 import static jakarta.ws.rs.core.Response.Status.BAD_REQUEST;
 import static jakarta.ws.rs.core.Response.Status.CONFLICT;
@@ -17,6 +18,8 @@ import static jakarta.ws.rs.core.Response.Status.LENGTH_REQUIRED;
 import static jakarta.ws.rs.core.Response.Status.NOT_FOUND;
 import static jakarta.ws.rs.core.Response.Status.NO_CONTENT;
 import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.PARTIAL_CONTENT;
+import static jakarta.ws.rs.core.Response.Status.REQUESTED_RANGE_NOT_SATISFIABLE;
 import static jakarta.ws.rs.core.Response.Status.SERVICE_UNAVAILABLE;
 import static jakarta.ws.rs.core.Response.Status.TOO_MANY_REQUESTS;
 import static jakarta.ws.rs.core.Response.Status.UNAUTHORIZED;
@@ -25,8 +28,13 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.SocketException;
 import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
 
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
@@ -35,6 +43,7 @@ import jakarta.ws.rs.core.Response;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 import io.github.solaris.jaxrs.client.test.server.MockRestServer;
 import io.github.solaris.jaxrs.client.test.util.Dto;
@@ -241,4 +250,132 @@ class MockResponseCreatorsTest {
             }
         }
     }
+
+    @Nested
+    class WithFile {
+        private static final String ALPHABET = "abcdefghijklmnopqrstuvwxyz";
+
+        @AutoClose
+        private final Client client = ClientBuilder.newClient();
+
+        private final MockRestServer server = MockRestServer.bindTo(client).build();
+
+        @TempDir
+        private Path tempDir;
+
+        @JaxRsVendorTest
+        void testFile() throws IOException {
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(writeAlphabet(), TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().get()) {
+                assertThat(response).satisfies(
+                        r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(OK),
+                        r -> assertThat(r.getLength()).isEqualTo(ALPHABET.length()),
+                        r -> assertThat(r.getHeaderString("Accept-Ranges")).isEqualTo("bytes"),
+                        r -> assertThat(r.readEntity(String.class)).isEqualTo(ALPHABET)
+                );
+            }
+        }
+
+        @JaxRsVendorTest
+        void testFile_range() throws IOException {
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(writeAlphabet(), TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().header("Range", "bytes=2-5").get()) {
+                assertThat(response).satisfies(
+                        r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(PARTIAL_CONTENT),
+                        r -> assertThat(r.getLength()).isEqualTo(4),
+                        r -> assertThat(r.getHeaderString("Content-Range")).isEqualTo("bytes 2-5/26"),
+                        r -> assertThat(r.readEntity(String.class)).isEqualTo("cdef")
+                );
+            }
+        }
+
+        @JaxRsVendorTest
+        void testFile_suffixRange() throws IOException {
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(writeAlphabet(), TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().header("Range", "bytes=-3").get()) {
+                assertThat(response).satisfies(
+                        r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(PARTIAL_CONTENT),
+                        r -> assertThat(r.getHeaderString("Content-Range")).isEqualTo("bytes 23-25/26"),
+                        r -> assertThat(r.readEntity(String.class)).isEqualTo("xyz")
+                );
+            }
+        }
+
+        @JaxRsVendorTest
+        void testFile_unsatisfiableRange() throws IOException {
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(writeAlphabet(), TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().header("Range", "bytes=26-").get()) {
+                assertThat(response).satisfies(
+                        r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(REQUESTED_RANGE_NOT_SATISFIABLE),
+                        r -> assertThat(r.getHeaderString("Content-Range")).isEqualTo("bytes */26"),
+                        r -> assertThat(r.hasEntity()).isFalse()
+                );
+            }
+        }
+
+        @JaxRsVendorTest
+        void testFile_multipleRanges() throws IOException {
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(writeAlphabet(), TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().header("Range", "bytes=0-1,4-5").get()) {
+                assertThat(response).satisfies(
+                        r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(OK),
+                        r -> assertThat(r.readEntity(String.class)).isEqualTo(ALPHABET)
+                );
+            }
+        }
+
+        @JaxRsVendorTest
+        void testFile_modified() throws IOException {
+            Path file = writeAlphabet();
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(file, TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.readEntity(String.class)).isEqualTo(ALPHABET);
+            }
+
+            server.reset();
+            Files.writeString(file, "modified");
+            Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+            server.expect(anything()).andRespond(MockResponseCreators.withFile(file, TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.readEntity(String.class)).isEqualTo("modified");
+            }
+        }
+
+        @JaxRsVendorTest
+        void testClasspathResource() {
+            server.expect(anything()).andRespond(MockResponseCreators.withClasspathResource("/fixtures/alphabet.txt", TEXT_PLAIN_TYPE));
+
+            try (Response response = client.target("").request().header("Range", "bytes=0-2").get()) {
+                assertThat(response).satisfies(
+                        r -> assertThat(r.getStatusInfo().toEnum()).isEqualTo(PARTIAL_CONTENT),
+                        r -> assertThat(r.readEntity(String.class)).isEqualTo("abc")
+                );
+            }
+        }
+
+        @Test
+        void testFile_missing() {
+            assertThatThrownBy(() -> MockResponseCreators.withFile(tempDir.resolve("missing.txt"), TEXT_PLAIN_TYPE))
+                    .isInstanceOf(UncheckedIOException.class)
+                    .hasCauseInstanceOf(NoSuchFileException.class);
+        }
+
+        @Test
+        void testClasspathResource_missing() {
+            assertThatThrownBy(() -> MockResponseCreators.withClasspathResource("fixtures/missing.txt", TEXT_PLAIN_TYPE))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("Classpath resource 'fixtures/missing.txt' does not exist");
+        }
+
+        private Path writeAlphabet() throws IOException {
+            return Files.writeString(tempDir.resolve("alphabet.txt"), ALPHABET);
+        }
+    }
 }
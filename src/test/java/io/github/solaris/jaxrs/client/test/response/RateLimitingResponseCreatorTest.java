@@ -0,0 +1,172 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.ExpectedCount.times;
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withRateLimit;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static jakarta.ws.rs.core.HttpHeaders.RETRY_AFTER;
+import static jakarta.ws.rs.core.Response.Status.OK;
+import static jakarta.ws.rs.core.Response.Status.TOO_MANY_REQUESTS;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.MockClientRequestContext;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class RateLimitingResponseCreatorTest {
+    private final VirtualClock clock = new VirtualClock();
+
+    @JaxRsVendorTest
+    void testBurst() throws IOException {
+        RateLimitingResponseCreator rateLimit = withRateLimit(withSuccess(), 10, 5).clock(clock);
+
+        for (int i = 0; i < 5; i++) {
+            assertStatus(rateLimit, OK);
+        }
+        try (Response response = rateLimit.createResponse(new MockClientRequestContext())) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(TOO_MANY_REQUESTS);
+            assertThat(response.getHeaderString(RETRY_AFTER)).isEqualTo("1");
+        }
+
+        assertThat(rateLimit.acceptedRequests()).isEqualTo(5);
+        assertThat(rateLimit.rejectedRequests()).isEqualTo(1);
+    }
+
+    @JaxRsVendorTest
+    void testRefill() throws IOException {
+        RateLimitingResponseCreator rateLimit = withRateLimit(withSuccess(), 10, 2).clock(clock);
+
+        assertStatus(rateLimit, OK);
+        assertStatus(rateLimit, OK);
+        assertStatus(rateLimit, TOO_MANY_REQUESTS);
+
+        clock.advance(Duration.ofMillis(100));
+        assertStatus(rateLimit, OK);
+        assertStatus(rateLimit, TOO_MANY_REQUESTS);
+
+        clock.advance(Duration.ofMinutes(1));
+        assertStatus(rateLimit, OK);
+        assertStatus(rateLimit, OK);
+        assertStatus(rateLimit, TOO_MANY_REQUESTS);
+    }
+
+    @JaxRsVendorTest
+    void testSustainedRate() throws IOException {
+        RateLimitingResponseCreator rateLimit = withRateLimit(withSuccess(), 10, 1).clock(clock);
+
+        for (int i = 0; i < 100; i++) {
+            assertStatus(rateLimit, OK);
+            clock.advance(Duration.ofMillis(100));
+        }
+
+        assertThat(rateLimit.rejectedRequests()).isZero();
+    }
+
+    @JaxRsVendorTest
+    void testRetryAfter_roundedUp() throws IOException {
+        RateLimitingResponseCreator rateLimit = withRateLimit(withSuccess(), 0.1, 1).clock(clock);
+
+        assertStatus(rateLimit, OK);
+        clock.advance(Duration.ofMillis(500));
+
+        try (Response response = rateLimit.createResponse(new MockClientRequestContext())) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(TOO_MANY_REQUESTS);
+            assertThat(response.getHeaderString(RETRY_AFTER)).isEqualTo("10");
+        }
+    }
+
+    @JaxRsVendorTest
+    void testConcurrentRequests() throws Exception {
+        RateLimitingResponseCreator rateLimit = withRateLimit(withSuccess(), 1, 50).clock(clock);
+
+        Callable<Void> requests = () -> {
+            for (int i = 0; i < 100; i++) {
+                rateLimit.createResponse(new MockClientRequestContext()).close();
+            }
+            return null;
+        };
+
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            List<Future<Void>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(requests));
+            }
+            for (Future<Void> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(rateLimit.acceptedRequests()).isEqualTo(50);
+        assertThat(rateLimit.rejectedRequests()).isEqualTo(750);
+    }
+
+    @JaxRsVendorTest
+    void testBoundClient() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        RateLimitingResponseCreator rateLimit = withRateLimit(withSuccess(), 1, 1).clock(clock);
+        server.expect(times(2), anything()).andRespond(rateLimit);
+
+        try (client) {
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK);
+            }
+            try (Response response = client.target("").request().get()) {
+                assertThat(response.getStatusInfo().toEnum()).isEqualTo(TOO_MANY_REQUESTS);
+                assertThat(response.getHeaderString(RETRY_AFTER)).isEqualTo("1");
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testRateLimit_responseCreator_null",
+                        (ThrowingCallable) () -> withRateLimit(null, 1, 1), "'responseCreator' must not be null."),
+                argumentSet("testRateLimit_requestsPerSecond_zero",
+                        (ThrowingCallable) () -> withRateLimit(withSuccess(), 0, 1), "'requestsPerSecond' must be > 0"),
+                argumentSet("testRateLimit_requestsPerSecond_nan",
+                        (ThrowingCallable) () -> withRateLimit(withSuccess(), Double.NaN, 1), "'requestsPerSecond' must be > 0"),
+                argumentSet("testRateLimit_burst_zero",
+                        (ThrowingCallable) () -> withRateLimit(withSuccess(), 1, 0), "'burst' must be >= 1"),
+                argumentSet("testClock_null",
+                        (ThrowingCallable) () -> withRateLimit(withSuccess(), 1, 1).clock(null), "'clock' must not be null.")
+        );
+    }
+
+    private static void assertStatus(ResponseCreator responseCreator, Response.Status status) throws IOException {
+        try (Response response = responseCreator.createResponse(new MockClientRequestContext())) {
+            assertThat(response.getStatusInfo().toEnum()).isEqualTo(status);
+        }
+    }
+}
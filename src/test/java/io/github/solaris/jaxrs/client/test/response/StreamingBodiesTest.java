@@ -0,0 +1,141 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class StreamingBodiesTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "abc, 0, ''",
+            "abc, 2, ab",
+            "abc, 3, abc",
+            "abc, 10, abcabcabca"
+    })
+    void testRepeating(String pattern, long length, String expected) throws IOException {
+        StreamingBody body = StreamingBodies.repeating(pattern, length);
+
+        assertThat(body.length()).isEqualTo(length);
+        try (InputStream inputStream = body.open()) {
+            assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testRepeating_large() throws IOException {
+        long length = 64L * 1024 * 1024 + 5;
+        StreamingBody body = StreamingBodies.repeating("0123456789", length);
+
+        try (InputStream inputStream = body.open()) {
+            assertThat(inputStream.transferTo(OutputStream.nullOutputStream())).isEqualTo(length);
+        }
+    }
+
+    @Test
+    void testRandom() throws IOException {
+        StreamingBody body = StreamingBodies.random(20_000, 42);
+
+        byte[] bulk;
+        try (InputStream inputStream = body.open()) {
+            bulk = inputStream.readAllBytes();
+        }
+
+        ByteArrayOutputStream singleBytes = new ByteArrayOutputStream();
+        try (InputStream inputStream = body.open()) {
+            int next;
+            while ((next = inputStream.read()) >= 0) {
+                singleBytes.write(next);
+            }
+        }
+
+        assertThat(body.length()).isEqualTo(20_000);
+        assertThat(bulk).hasSize(20_000).isEqualTo(singleBytes.toByteArray());
+    }
+
+    @Test
+    void testRandom_differentSeed() throws IOException {
+        try (InputStream first = StreamingBodies.random(64, 1).open(); InputStream second = StreamingBodies.random(64, 2).open()) {
+            assertThat(first.readAllBytes()).isNotEqualTo(second.readAllBytes());
+        }
+    }
+
+    @ParameterizedTest
+    @CsvSource(quoteCharacter = '`', value = {
+            "0, []",
+            "1, `[{\"id\":0}]`",
+            "3, `[{\"id\":0},{\"id\":1},{\"id\":2}]`"
+    })
+    void testJsonArray(long count, String expected) throws IOException {
+        StreamingBody body = StreamingBodies.jsonArray(count, index -> "{\"id\":" + index + "}");
+
+        assertThat(body.length()).isEqualTo(-1);
+        try (InputStream inputStream = body.open()) {
+            assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void testJsonArray_largeElements() throws IOException {
+        String element = "\"" + "x".repeat(10_000) + "\"";
+        StreamingBody body = StreamingBodies.jsonArray(3, _ -> element);
+
+        try (InputStream inputStream = body.open()) {
+            assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo("[" + element + "," + element + "," + element + "]");
+        }
+    }
+
+    @Test
+    void testChunked() throws IOException {
+        StreamingBody body = StreamingBodies.chunked(StreamingBodies.repeating("ab", 3));
+
+        assertThat(body.length()).isEqualTo(-1);
+        try (InputStream inputStream = body.open()) {
+            assertThat(new String(inputStream.readAllBytes(), UTF_8)).isEqualTo("aba");
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        return Stream.of(
+                argumentSet("testRepeating_bytes_null",
+                        (ThrowingCallable) () -> StreamingBodies.repeating((byte[]) null, 1), "'pattern' must not be null."),
+                argumentSet("testRepeating_string_null",
+                        (ThrowingCallable) () -> StreamingBodies.repeating((String) null, 1), "'pattern' must not be null."),
+                argumentSet("testRepeating_empty",
+                        (ThrowingCallable) () -> StreamingBodies.repeating("", 1), "'pattern' must not be empty"),
+                argumentSet("testRepeating_negativeLength",
+                        (ThrowingCallable) () -> StreamingBodies.repeating("a", -1), "'length' must be >= 0"),
+                argumentSet("testRandom_negativeLength",
+                        (ThrowingCallable) () -> StreamingBodies.random(-1, 42), "'length' must be >= 0"),
+                argumentSet("testJsonArray_negativeCount",
+                        (ThrowingCallable) () -> StreamingBodies.jsonArray(-1, String::valueOf), "'count' must be >= 0"),
+                argumentSet("testJsonArray_element_null",
+                        (ThrowingCallable) () -> StreamingBodies.jsonArray(1, null), "'element' must not be null."),
+                argumentSet("testChunked_null",
+                        (ThrowingCallable) () -> StreamingBodies.chunked(null), "'body' must not be null.")
+        );
+    }
+}
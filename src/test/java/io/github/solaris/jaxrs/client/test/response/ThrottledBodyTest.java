@@ -0,0 +1,216 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.anything;
+import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.JERSEY;
+import static jakarta.ws.rs.core.MediaType.TEXT_PLAIN_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.junit.jupiter.params.provider.Arguments.argumentSet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.time.Duration;
+import java.util.stream.Stream;
+
+import jakarta.ws.rs.ProcessingException;
+import jakarta.ws.rs.client.Client;
+import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.core.Response;
+
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import io.github.solaris.jaxrs.client.test.server.MockRestServer;
+import io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendorTest;
+
+class ThrottledBodyTest {
+    private final VirtualClock clock = VirtualClock.autoAdvancing();
+
+    @Test
+    void testBytesPerSecond() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 1000)).bytesPerSecond(100).clock(clock);
+
+        assertThat(body.length()).isEqualTo(1000);
+        assertThat(transfer(body)).isEqualTo(1000);
+        assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(10));
+    }
+
+    @Test
+    void testBytesPerSecond_jitter() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 1000)).bytesPerSecond(100, 0.5).clock(clock);
+
+        assertThat(transfer(body)).isEqualTo(1000);
+        assertThat(clock.elapsed()).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(15));
+    }
+
+    @Test
+    void testBytesPerSecond_singleBytes() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 5)).bytesPerSecond(1).clock(clock);
+
+        try (InputStream inputStream = body.open()) {
+            assertThat(inputStream.read()).isEqualTo('x');
+            assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(1));
+        }
+    }
+
+    @Test
+    void testStallAfter() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 100))
+                .stallAfter(50, Duration.ofSeconds(30))
+                .clock(clock);
+
+        try (InputStream inputStream = body.open()) {
+            assertThat(inputStream.readNBytes(50)).hasSize(50);
+            assertThat(clock.elapsed()).isZero();
+
+            assertThat(inputStream.readAllBytes()).hasSize(50);
+            assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(30));
+        }
+    }
+
+    @Test
+    void testFailAfter() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 100))
+                .failAfter(30, () -> new SocketTimeoutException("Read timed out"));
+
+        ByteArrayOutputStream delivered = new ByteArrayOutputStream();
+        try (InputStream inputStream = body.open()) {
+            assertThatThrownBy(() -> inputStream.transferTo(delivered))
+                    .isInstanceOf(SocketTimeoutException.class)
+                    .hasMessage("Read timed out");
+        }
+        assertThat(delivered.size()).isEqualTo(30);
+    }
+
+    @Test
+    void testFailAfter_beyondLength() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 10))
+                .failAfter(20, () -> new SocketException("Connection reset"));
+
+        assertThat(transfer(body)).isEqualTo(10);
+    }
+
+    @Test
+    void testVirtualClock_pending() throws InterruptedException {
+        VirtualClock manualClock = new VirtualClock();
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 10))
+                .stallAfter(5, Duration.ofMinutes(1))
+                .clock(manualClock);
+
+        Thread reader = Thread.ofVirtual().start(() -> {
+            try {
+                transfer(body);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+
+        assertThat(manualClock.awaitSleepers(1, Duration.ofSeconds(5))).isTrue();
+        manualClock.advance(Duration.ofMinutes(1));
+        assertThat(reader.join(Duration.ofSeconds(5))).isTrue();
+    }
+
+    @Test
+    void testFailAfter_newExceptionPerStream() throws IOException {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 10))
+                .failAfter(5, () -> new SocketException("Connection reset"));
+
+        Throwable first;
+        Throwable second;
+        try (InputStream firstStream = body.open(); InputStream secondStream = body.open()) {
+            first = catchThrowable(() -> firstStream.transferTo(OutputStream.nullOutputStream()));
+            second = catchThrowable(() -> secondStream.transferTo(OutputStream.nullOutputStream()));
+        }
+
+        assertThat(first).isInstanceOf(SocketException.class);
+        assertThat(second).isInstanceOf(SocketException.class).isNotSameAs(first);
+    }
+
+    @JaxRsVendorTest
+    void testFailAfter_readEntity() {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 100))
+                .failAfter(30, () -> new SocketException("Connection reset"));
+        server.expect(anything()).andRespond(withSuccess(body, TEXT_PLAIN_TYPE));
+
+        try (client; Response response = client.target("").request().get()) {
+            assertThat(response.getLength()).isEqualTo(100);
+            assertThatThrownBy(() -> response.readEntity(String.class))
+                    .isInstanceOf(ProcessingException.class)
+                    .rootCause()
+                    .isInstanceOf(SocketException.class)
+                    .hasMessage("Connection reset");
+        }
+    }
+
+    // Jersey buffers the whole entity of an aborted request on the first read, so no bytes are delivered before the failure
+    @JaxRsVendorTest(skipFor = JERSEY)
+    void testFailAfter_readEntity_inputStream() throws IOException {
+        Client client = ClientBuilder.newClient();
+        MockRestServer server = MockRestServer.bindTo(client).build();
+
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 100))
+                .failAfter(30, () -> new SocketException("Connection reset"));
+        server.expect(anything()).andRespond(withSuccess(body, TEXT_PLAIN_TYPE));
+
+        ByteArrayOutputStream delivered = new ByteArrayOutputStream();
+        try (client; Response response = client.target("").request().get(); InputStream entity = response.readEntity(InputStream.class)) {
+            assertThatThrownBy(() -> entity.transferTo(delivered))
+                    .isInstanceOf(SocketException.class)
+                    .hasMessage("Connection reset");
+        }
+        assertThat(delivered.size()).isEqualTo(30);
+    }
+
+    @ParameterizedTest
+    @MethodSource("invalidArguments")
+    void testArgumentValidation(ThrowingCallable callable, String exceptionMessage) {
+        assertThatThrownBy(callable)
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage(exceptionMessage);
+    }
+
+    @SuppressWarnings("DataFlowIssue")
+    private static Stream<Arguments> invalidArguments() {
+        ThrottledBody body = StreamingBodies.throttled(StreamingBodies.repeating("x", 1));
+        return Stream.of(
+                argumentSet("testThrottled_null",
+                        (ThrowingCallable) () -> StreamingBodies.throttled(null), "'body' must not be null."),
+                argumentSet("testBytesPerSecond_zero",
+                        (ThrowingCallable) () -> body.bytesPerSecond(0), "'bytesPerSecond' must be > 0"),
+                argumentSet("testBytesPerSecond_jitterNegative",
+                        (ThrowingCallable) () -> body.bytesPerSecond(1, -0.1), "'jitter' must be between 0 and 1"),
+                argumentSet("testBytesPerSecond_jitterTooLarge",
+                        (ThrowingCallable) () -> body.bytesPerSecond(1, 1.1), "'jitter' must be between 0 and 1"),
+                argumentSet("testStallAfter_negativeBytes",
+                        (ThrowingCallable) () -> body.stallAfter(-1, Duration.ZERO), "'bytes' must be >= 0"),
+                argumentSet("testStallAfter_null",
+                        (ThrowingCallable) () -> body.stallAfter(0, null), "'stall' must not be null."),
+                argumentSet("testStallAfter_negative",
+                        (ThrowingCallable) () -> body.stallAfter(0, Duration.ofSeconds(-1)), "'stall' must not be negative"),
+                argumentSet("testFailAfter_negativeBytes",
+                        (ThrowingCallable) () -> body.failAfter(-1, SocketException::new), "'bytes' must be >= 0"),
+                argumentSet("testFailAfter_null",
+                        (ThrowingCallable) () -> body.failAfter(0, null), "'exception' must not be null."),
+                argumentSet("testClock_null",
+                        (ThrowingCallable) () -> body.clock(null), "'clock' must not be null.")
+        );
+    }
+
+    private static long transfer(StreamingBody body) throws IOException {
+        try (InputStream inputStream = body.open()) {
+            return inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
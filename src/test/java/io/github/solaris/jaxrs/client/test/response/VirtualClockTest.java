@@ -0,0 +1,90 @@
+package io.github.solaris.jaxrs.client.test.response;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.junit.jupiter.api.Test;
+
+class VirtualClockTest {
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private final VirtualClock clock = new VirtualClock();
+
+    @Test
+    void testSleep() throws InterruptedException {
+        try (ExecutorService executor = Executors.newSingleThreadExecutor()) {
+            CompletableFuture<Void> sleeper = CompletableFuture.runAsync(() -> sleep(Duration.ofSeconds(10)), executor);
+
+            assertThat(clock.awaitSleepers(1, TIMEOUT)).isTrue();
+
+            clock.advance(Duration.ofSeconds(9));
+            assertThat(sleeper).isNotDone();
+            assertThat(clock.sleepers()).isOne();
+
+            clock.advance(Duration.ofSeconds(1));
+            assertThat(sleeper).succeedsWithin(TIMEOUT);
+            assertThat(clock.sleepers()).isZero();
+            assertThat(clock.elapsed()).isEqualTo(Duration.ofSeconds(10));
+        }
+    }
+
+    @Test
+    void testSleep_multipleSleepers() throws InterruptedException {
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            CompletableFuture<Void> shortSleeper = CompletableFuture.runAsync(() -> sleep(Duration.ofMillis(100)), executor);
+            CompletableFuture<Void> longSleeper = CompletableFuture.runAsync(() -> sleep(Duration.ofMillis(200)), executor);
+
+            assertThat(clock.awaitSleepers(2, TIMEOUT)).isTrue();
+
+            clock.advance(Duration.ofMillis(150));
+            assertThat(shortSleeper).succeedsWithin(TIMEOUT);
+            assertThat(longSleeper).isNotDone();
+
+            clock.advance(Duration.ofMillis(50));
+            assertThat(longSleeper).succeedsWithin(TIMEOUT);
+        }
+    }
+
+    @Test
+    void testSleep_zero() throws InterruptedException {
+        clock.sleep(Duration.ZERO);
+
+        assertThat(clock.sleepers()).isZero();
+    }
+
+    @Test
+    void testAutoAdvancing() throws InterruptedException {
+        VirtualClock autoAdvancing = VirtualClock.autoAdvancing();
+
+        autoAdvancing.sleep(Duration.ofSeconds(3));
+        autoAdvancing.sleep(Duration.ofSeconds(2));
+
+        assertThat(autoAdvancing.elapsed()).isEqualTo(Duration.ofSeconds(5));
+        assertThat(autoAdvancing.sleepers()).isZero();
+    }
+
+    @Test
+    void testAwaitSleepers_timeout() throws InterruptedException {
+        assertThat(clock.awaitSleepers(1, Duration.ofMillis(10))).isFalse();
+    }
+
+    @Test
+    void testAdvance_negative() {
+        assertThatThrownBy(() -> clock.advance(Duration.ofSeconds(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("'duration' must not be negative");
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            clock.sleep(duration);
+        } catch (InterruptedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
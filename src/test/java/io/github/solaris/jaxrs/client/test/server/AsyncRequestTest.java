@@ -1,17 +1,24 @@
 package io.github.solaris.jaxrs.client.test.server;
 
+import static io.github.solaris.jaxrs.client.test.request.ExpectedCount.times;
 import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.method;
 import static io.github.solaris.jaxrs.client.test.request.RequestMatchers.requestTo;
 import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withException;
 import static io.github.solaris.jaxrs.client.test.response.MockResponseCreators.withSuccess;
+import static io.github.solaris.jaxrs.client.test.util.extension.vendor.JaxRsVendor.RESTEASY_REACTIVE;
 import static jakarta.ws.rs.HttpMethod.GET;
 import static jakarta.ws.rs.core.MediaType.APPLICATION_JSON_TYPE;
 import static jakarta.ws.rs.core.Response.Status.OK;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.net.SocketException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -25,6 +32,8 @@ import org.eclipse.microprofile.rest.client.RestClientBuilder;
 import org.junit.jupiter.api.AutoClose;
 import org.junit.jupiter.api.Nested;
 
+import io.github.solaris.jaxrs.client.test.response.ResponseCreator;
+import io.github.solaris.jaxrs.client.test.response.VirtualClock;
 import io.github.solaris.jaxrs.client.test.util.Dto;
 import io.github.solaris.jaxrs.client.test.util.GreetingSendoffClient;
 import io.github.solaris.jaxrs.client.test.util.extension.vendor.EnableJackson3;
@@ -42,6 +51,165 @@ class AsyncRequestTest {
 
     @JaxRsVendorTest
     void testInvokeAsync_success() {
+        assertInvokeAsyncSuccess(client, server);
+    }
+
+    @JaxRsVendorTest
+    void testInvokeAsync_failure() {
+        assertInvokeAsyncFailure(client, server);
+    }
+
+    @EnableJackson3
+    @JaxRsVendorTest
+    void testInvokeAsyncWithCallback_success() {
+        assertInvokeAsyncWithCallbackSuccess(client, server);
+    }
+
+    @JaxRsVendorTest
+    void testInvokeAsyncWithCallback_failure() {
+        assertInvokeAsyncWithCallbackFailure(client, server);
+    }
+
+    @JaxRsVendorTest
+    void testInvokeRx_success() {
+        assertInvokeRxSuccess(client, server);
+    }
+
+    @JaxRsVendorTest
+    void testInvokeRx_failure() {
+        assertInvokeRxFailure(client, server);
+    }
+
+    // RESTEasy Reactive performs requests non-blocking on its Vert.x event loop and doesn't hand them to an async executor
+    @Nested
+    class VirtualThreadAsyncExecutor {
+        private static final int REQUEST_COUNT = 200;
+
+        private final ClientBuilder builder = ClientBuilder.newBuilder();
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeAsync_success() {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+            try (Client virtualThreadClient = builder.build()) {
+                assertInvokeAsyncSuccess(virtualThreadClient, virtualThreadServer);
+            }
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeAsync_failure() {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+            try (Client virtualThreadClient = builder.build()) {
+                assertInvokeAsyncFailure(virtualThreadClient, virtualThreadServer);
+            }
+        }
+
+        @EnableJackson3
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeAsyncWithCallback_success() {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+            try (Client virtualThreadClient = builder.build()) {
+                assertInvokeAsyncWithCallbackSuccess(virtualThreadClient, virtualThreadServer);
+            }
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeAsyncWithCallback_failure() {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+            try (Client virtualThreadClient = builder.build()) {
+                assertInvokeAsyncWithCallbackFailure(virtualThreadClient, virtualThreadServer);
+            }
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeRx_success() {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+            try (Client virtualThreadClient = builder.build()) {
+                assertInvokeRxSuccess(virtualThreadClient, virtualThreadServer);
+            }
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeRx_failure() {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+            try (Client virtualThreadClient = builder.build()) {
+                assertInvokeRxFailure(virtualThreadClient, virtualThreadServer);
+            }
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeMpRestClientAsync_success() throws Exception {
+            RestClientBuilder microprofileBuilder = RestClientBuilder.newBuilder().baseUri("http://localhost");
+            MockRestServer microprofileServer = MockRestServer.bindTo(microprofileBuilder).withVirtualThreadAsyncExecutor().build();
+
+            assertInvokeMpRestClientAsyncSuccess(microprofileBuilder, microprofileServer);
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeMpRestClientAsync_failure() throws Exception {
+            RestClientBuilder microprofileBuilder = RestClientBuilder.newBuilder().baseUri("http://localhost");
+            MockRestServer microprofileServer = MockRestServer.bindTo(microprofileBuilder).withVirtualThreadAsyncExecutor().build();
+
+            assertInvokeMpRestClientAsyncFailure(microprofileBuilder, microprofileServer);
+        }
+
+        @JaxRsVendorTest(skipFor = RESTEASY_REACTIVE)
+        void testInvokeAsync_delayed() throws InterruptedException {
+            MockRestServer virtualThreadServer = MockRestServer.bindTo(builder).withVirtualThreadAsyncExecutor().build();
+
+            VirtualClock clock = new VirtualClock();
+            ResponseCreator delayedResponse = withSuccess().delay(Duration.ofSeconds(10)).clock(clock);
+            Queue<Boolean> virtualThreads = new ConcurrentLinkedQueue<>();
+
+            virtualThreadServer.expect(times(REQUEST_COUNT), method(GET)).andRespond(request -> {
+                virtualThreads.add(Thread.currentThread().isVirtual());
+                return delayedResponse.createResponse(request);
+            });
+
+            try (Client virtualThreadClient = builder.build()) {
+                List<Future<Response>> responseFutures = new ArrayList<>();
+                for (int i = 0; i < REQUEST_COUNT; i++) {
+                    responseFutures.add(virtualThreadClient.target("").request().async().get());
+                }
+
+                assertThat(clock.awaitSleepers(REQUEST_COUNT, Duration.ofSeconds(5))).isTrue();
+                assertThat(responseFutures).noneMatch(Future::isDone);
+
+                clock.advance(Duration.ofSeconds(10));
+
+                assertThat(responseFutures).allSatisfy(responseFuture -> assertThat(responseFuture)
+                        .succeedsWithin(Duration.ofSeconds(5))
+                        .satisfies(response -> assertThat(response.getStatusInfo().toEnum()).isEqualTo(OK)));
+                assertThat(virtualThreads).hasSize(REQUEST_COUNT).containsOnly(true);
+            }
+
+            virtualThreadServer.verify();
+        }
+
+        @JaxRsVendorTest
+        void testInvokeAsync_boundClient() {
+            assertThatThrownBy(() -> MockRestServer.bindTo(client).withVirtualThreadAsyncExecutor().build())
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessageStartingWith("An async executor can only be configured when binding a ClientBuilder or RestClientBuilder");
+        }
+    }
+
+    @Nested
+    @RunInQuarkus
+    class MicroProfileRestClient {
+        private final RestClientBuilder builder = RestClientBuilder.newBuilder().baseUri("http://localhost");
+
+        @JaxRsVendorTest
+        void testInvokeMpRestClientAsync_success() throws Exception {
+            assertInvokeMpRestClientAsyncSuccess(builder, MockRestServer.bindTo(builder).build());
+        }
+
+        @JaxRsVendorTest
+        void testInvokeMpRestClientAsync_failure() throws Exception {
+            assertInvokeMpRestClientAsyncFailure(builder, MockRestServer.bindTo(builder).build());
+        }
+    }
+
+    private static void assertInvokeAsyncSuccess(Client client, MockRestServer server) {
         server.expect(method(GET)).andRespond(withSuccess());
 
         Future<Response> responseFuture = client.target("").request().async().get();
@@ -52,8 +220,7 @@ class AsyncRequestTest {
                 );
     }
 
-    @JaxRsVendorTest
-    void testInvokeAsync_failure() {
+    private static void assertInvokeAsyncFailure(Client client, MockRestServer server) {
         server.expect(method(GET)).andRespond(withException(new SocketException(EXCEPTION_MESSAGE)));
 
         Future<Response> responseFuture = client.target("").request().async().get();
@@ -67,9 +234,7 @@ class AsyncRequestTest {
                 .withMessage(EXCEPTION_MESSAGE);
     }
 
-    @EnableJackson3
-    @JaxRsVendorTest
-    void testInvokeAsyncWithCallback_success() {
+    private static void assertInvokeAsyncWithCallbackSuccess(Client client, MockRestServer server) {
         server.expect(method(GET)).andRespond(withSuccess(BODY, APPLICATION_JSON_TYPE));
 
         Future<Response> responseFuture = client.target("").request().async().get(new AssertingResponseCallback());
@@ -77,8 +242,7 @@ class AsyncRequestTest {
                 .succeedsWithin(Duration.ofSeconds(1));
     }
 
-    @JaxRsVendorTest
-    void testInvokeAsyncWithCallback_failure() {
+    private static void assertInvokeAsyncWithCallbackFailure(Client client, MockRestServer server) {
         server.expect(method(GET)).andRespond(withException(new SocketException(EXCEPTION_MESSAGE)));
 
         Future<Response> responseFuture = client.target("").request().async().get(new AssertingResponseCallback());
@@ -86,8 +250,7 @@ class AsyncRequestTest {
                 .failsWithin(Duration.ofSeconds(1));
     }
 
-    @JaxRsVendorTest
-    void testInvokeRx_success() {
+    private static void assertInvokeRxSuccess(Client client, MockRestServer server) {
         server.expect(method(GET)).andRespond(withSuccess());
 
         CompletionStage<Response> completionStage = client.target("").request().rx().get();
@@ -98,8 +261,7 @@ class AsyncRequestTest {
                 );
     }
 
-    @JaxRsVendorTest
-    void testInvokeRx_failure() {
+    private static void assertInvokeRxFailure(Client client, MockRestServer server) {
         server.expect(method(GET)).andRespond(withException(new SocketException(EXCEPTION_MESSAGE)));
 
         CompletionStage<Response> completionStage = client.target("").request().rx().get();
@@ -113,41 +275,29 @@ class AsyncRequestTest {
                 .withMessage(EXCEPTION_MESSAGE);
     }
 
-    @Nested
-    @RunInQuarkus
-    class MicroProfileRestClient {
-        private final RestClientBuilder builder = RestClientBuilder.newBuilder().baseUri("http://localhost");
-
-        @JaxRsVendorTest
-        void testInvokeMpRestClientAsync_success() throws Exception {
-            MockRestServer microprofileServer = MockRestServer.bindTo(builder).build();
-
-            microprofileServer.expect(method(GET)).andExpect(requestTo("http://localhost/hello-async")).andRespond(withSuccess());
+    private static void assertInvokeMpRestClientAsyncSuccess(RestClientBuilder builder, MockRestServer server) throws Exception {
+        server.expect(method(GET)).andExpect(requestTo("http://localhost/hello-async")).andRespond(withSuccess());
 
-            try (GreetingSendoffClient microprofileClient = builder.build(GreetingSendoffClient.class)) {
-                assertThat(microprofileClient.greetAsync())
-                        .succeedsWithin(Duration.ofSeconds(1));
-            }
+        try (GreetingSendoffClient microprofileClient = builder.build(GreetingSendoffClient.class)) {
+            assertThat(microprofileClient.greetAsync())
+                    .succeedsWithin(Duration.ofSeconds(1));
         }
+    }
 
-        @JaxRsVendorTest
-        void testInvokeMpRestClientAsync_failure() throws Exception {
-            MockRestServer microprofileServer = MockRestServer.bindTo(builder).build();
-
-            microprofileServer.expect(method(GET))
-                    .andExpect(requestTo("http://localhost/hello-async"))
-                    .andRespond(withException(new SocketException(EXCEPTION_MESSAGE)));
-
-            try (GreetingSendoffClient microprofileClient = builder.build(GreetingSendoffClient.class)) {
-                assertThat(microprofileClient.greetAsync())
-                        .failsWithin(Duration.ofSeconds(1))
-                        .withThrowableOfType(ExecutionException.class)
-                        .havingCause()
-                        .isInstanceOf(ProcessingException.class)
-                        .havingCause()
-                        .isInstanceOf(SocketException.class)
-                        .withMessage(EXCEPTION_MESSAGE);
-            }
+    private static void assertInvokeMpRestClientAsyncFailure(RestClientBuilder builder, MockRestServer server) throws Exception {
+        server.expect(method(GET))
+                .andExpect(requestTo("http://localhost/hello-async"))
+                .andRespond(withException(new SocketException(EXCEPTION_MESSAGE)));
+
+        try (GreetingSendoffClient microprofileClient = builder.build(GreetingSendoffClient.class)) {
+            assertThat(microprofileClient.greetAsync())
+                    .failsWithin(Duration.ofSeconds(1))
+                    .withThrowableOfType(ExecutionException.class)
+                    .havingCause()
+                    .isInstanceOf(ProcessingException.class)
+                    .havingCause()
+                    .isInstanceOf(SocketException.class)
+                    .withMessage(EXCEPTION_MESSAGE);
         }
     }
 
@@ -18,12 +18,14 @@ import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 import java.net.SocketException;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
 import java.util.stream.Stream;
 
 import jakarta.ws.rs.ProcessingException;
 import jakarta.ws.rs.client.Client;
 import jakarta.ws.rs.client.ClientBuilder;
+import jakarta.ws.rs.client.Entity;
 import jakarta.ws.rs.client.WebTarget;
 
 import org.eclipse.microprofile.rest.client.RestClientBuilder;
@@ -87,6 +89,18 @@ class MockRestServerTest {
                     argumentSet("testBuild_order_null",
                             (Consumer<Client>) client -> MockRestServer.bindTo(client).withRequestOrder(null),
                             "'order' must not be null."),
+                    argumentSet("testBuild_asyncExecutor_null",
+                            (Consumer<Client>) client -> MockRestServer.bindTo(client).withAsyncExecutor(null),
+                            "'executorService' must not be null."),
+                    argumentSet("testBuild_retention_null",
+                            (Consumer<Client>) client -> MockRestServer.bindTo(client).withRequestRetention(null),
+                            "'retention' must not be null."),
+                    argumentSet("testRequestRetention_last_zero",
+                            (Consumer<Client>) _ -> RequestRetention.last(0),
+                            "'count' must be >= 1"),
+                    argumentSet("testRequestRetention_withEntity_negative",
+                            (Consumer<Client>) _ -> RequestRetention.all().withEntity(-1),
+                            "'maxLength' must be >= 0"),
                     argumentSet("testVerify_timeout_null",
                             (Consumer<Client>) client -> MockRestServer.bindTo(client).build().verify(null),
                             "'timeout' must not be null."),
@@ -378,6 +392,45 @@ class MockRestServerTest {
             }
         }
 
+        @JaxRsVendorTest
+        void testWhenSatisfied() {
+            MockRestServer server = MockRestServer.bindTo(builder).build();
+
+            server.expect(requestTo("/hello")).andRespond(withSuccess());
+            server.expect(requestTo("/goodbye")).andRespond(withSuccess());
+
+            CompletableFuture<Void> satisfied = server.whenSatisfied().toCompletableFuture();
+            try (Client client = builder.build()) {
+                assertThat(client.target("/hello").request().get().getStatusInfo().toEnum()).isEqualTo(OK);
+                assertThat(satisfied).isNotDone();
+
+                assertThat(client.target("/goodbye").request().async().get()).succeedsWithin(Duration.ofSeconds(5));
+                assertThat(satisfied).succeedsWithin(Duration.ofSeconds(5));
+            }
+        }
+
+        @JaxRsVendorTest
+        void testRequestRetention(FilterExceptionAssert filterExceptionAssert) {
+            MockRestServer server = MockRestServer.bindTo(builder)
+                    .withRequestRetention(RequestRetention.last(1).withEntity(5))
+                    .build();
+
+            server.expect(times(2), requestTo("/hello")).andRespond(withSuccess());
+
+            try (Client client = builder.build()) {
+                assertThat(client.target("/hello").request().get().getStatusInfo().toEnum()).isEqualTo(OK);
+                assertThat(client.target("/hello").request().post(Entity.text("salutations")).getStatusInfo().toEnum()).isEqualTo(OK);
+
+                filterExceptionAssert.assertThatThrownBy(() -> client.target("/goodbye").request().get())
+                        .isInstanceOf(AssertionError.class)
+                        .hasMessageMatching("""
+                                No further requests expected: HTTP GET /goodbye
+                                2 request\\(s\\) executed, 1 retained:
+                                POST /hello, headers: .*, entity: salut\\.\\.\\.
+                                """);
+            }
+        }
+
         @JaxRsVendorTest
         void testVerifyFailsAfterRequestFailure(FilterExceptionAssert filterExceptionAssert) {
             MockRestServer server = MockRestServer.bindTo(builder).build();
@@ -32,6 +32,8 @@ public abstract sealed class EntityConverterAssert {
 
     public abstract RequestMatcher genericTypeAsserter(Object expectedEntity, int times);
 
+    public abstract RequestMatcher repeatedGenericTypeAsserter(Object expectedEntity, int repetitions);
+
     public abstract void assertConversionFailure(ThrowingCallable throwingCallable);
 
     public static final class ClientEntityConverterAssert extends EntityConverterAssert {
@@ -46,6 +48,17 @@ public abstract sealed class EntityConverterAssert {
             return asserter(expectedEntity, times, (converter, requestContext) -> converter.convertEntity(requestContext, GENERIC_TYPE));
         }
 
+        @Override
+        public RequestMatcher repeatedGenericTypeAsserter(Object expectedEntity, int repetitions) {
+            return asserter(expectedEntity, 1, (converter, requestContext) -> {
+                MultivaluedMap<String, String> entityMap = converter.convertEntity(requestContext, GENERIC_TYPE);
+                for (int i = 1; i < repetitions; i++) {
+                    assertThat(converter.convertEntity(requestContext, GENERIC_TYPE)).isEqualTo(entityMap);
+                }
+                return entityMap;
+            });
+        }
+
         @Override
         public void assertConversionFailure(ThrowingCallable throwingCallable) {
             assertThatThrownBy(throwingCallable).isInstanceOf(ProcessingException.class);
@@ -126,6 +139,28 @@ public abstract sealed class EntityConverterAssert {
             };
         }
 
+        @Override
+        public RequestMatcher repeatedGenericTypeAsserter(Object expectedEntity, int repetitions) {
+            return request -> {
+                EntityConverter converter = recreateConverterWithSpy(EntityConverter.fromRequestContext(request));
+
+                for (int i = 0; i < repetitions; i++) {
+                    assertThat(converter.convertEntity(request, GENERIC_TYPE)).isEqualTo(expectedEntity);
+                }
+
+                verify(providersSpy, times(1)).getMessageBodyWriter(
+                        request.getEntityClass(),
+                        request.getEntityType(),
+                        request.getEntityAnnotations(),
+                        request.getMediaType());
+                verify(providersSpy, times(1)).getMessageBodyReader(
+                        GENERIC_TYPE.getRawType(),
+                        GENERIC_TYPE.getType(),
+                        request.getEntityAnnotations(),
+                        request.getMediaType());
+            };
+        }
+
         @Override
         public void assertConversionFailure(ThrowingCallable throwingCallable) {
             assertThatThrownBy(throwingCallable)
@@ -0,0 +1,25 @@
+package io.github.solaris.jaxrs.client.test.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+
+import jakarta.ws.rs.client.ClientRequestContext;
+
+import io.github.solaris.jaxrs.client.test.request.RequestMatcher;
+
+public final class ProbeAssert {
+
+    private ProbeAssert() {}
+
+    public static void assertProbe(ClientRequestContext request, RequestMatcher matcher, boolean expected) throws IOException {
+        assertThat(matcher.test(request)).isEqualTo(expected);
+        if (expected) {
+            assertThatCode(() -> matcher.match(request)).doesNotThrowAnyException();
+        } else {
+            assertThatThrownBy(() -> matcher.match(request)).isInstanceOf(AssertionError.class);
+        }
+    }
+}